@@ -27,7 +27,7 @@ import software.amazon.cloudformation.proxy.delay.Exponential;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
 import software.amazon.logs.common.MetricsConstants;
 import software.amazon.logs.common.MetricsHelper;
-import software.amazon.logs.common.MetricsProvider;
+import software.amazon.logs.common.RateLimitedProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -43,28 +43,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger
     ) {
-        final long startTime = System.currentTimeMillis();
-        MetricsLogger metricsLogger = MetricsProvider.getMetrics();
-        MetricsHelper.putCFNRequestProperties(metricsLogger, request);
-
-        ProgressEvent<ResourceModel, CallbackContext> result;
-        try {
-            result =
-                handleRequest(
-                    proxy,
-                    request,
-                    callbackContext != null ? callbackContext : new CallbackContext(),
-                    proxy.newProxy(ClientBuilder::getClient),
-                    logger,
-                    metricsLogger
-                );
-            MetricsHelper.putCFNProperties(metricsLogger, result);
-        } finally {
-            MetricsHelper.putTime(metricsLogger, startTime, System.currentTimeMillis());
-            MetricsHelper.flush(metricsLogger);
-        }
-
-        return result;
+        return MetricsHelper.instrument(request, getClass().getSimpleName(), metricsLogger ->
+            handleRequest(
+                proxy,
+                request,
+                callbackContext != null ? callbackContext : new CallbackContext(),
+                RateLimitedProxyClient.wrap(proxy.newProxy(ClientBuilder::getClient), request, metricsLogger),
+                logger,
+                metricsLogger
+            )
+        );
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -8,11 +8,14 @@ import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
-import software.amazon.cloudformation.AbstractWrapper;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 public class ClientBuilder {
 
-    private static CloudWatchLogsClient cloudWatchLogsClient;
+    private static final String RETRY_PROFILE = "Destination";
+    private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
 
     private ClientBuilder() {}
 
@@ -29,18 +32,14 @@ public class ClientBuilder {
         .throttlingBackoffStrategy(BACKOFF_STRATEGY)
         .build();
 
+    private static final ClientOverrideConfiguration CONFIGURATION = ClientOverrideConfiguration
+        .builder()
+        .retryPolicy(RETRY_POLICY)
+        .apiCallTimeout(Duration.ofSeconds(55))
+        .addExecutionInterceptor(new MetricsInterceptor())
+        .build();
+
     public static CloudWatchLogsClient getClient() {
-        if (cloudWatchLogsClient == null) {
-            cloudWatchLogsClient =
-                CloudWatchLogsClient
-                    .builder()
-                    .httpClient(AbstractWrapper.HTTP_CLIENT)
-                    .overrideConfiguration(
-                        ClientOverrideConfiguration.builder().retryPolicy(RETRY_POLICY).apiCallTimeout(Duration.ofSeconds(55)).build()
-                    )
-                    .build();
-            return cloudWatchLogsClient;
-        }
-        return cloudWatchLogsClient;
+        return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
 }
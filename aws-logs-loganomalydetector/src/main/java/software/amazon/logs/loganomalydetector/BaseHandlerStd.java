@@ -6,6 +6,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.RateLimitedProxyClient;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
@@ -16,16 +18,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
+        return MetricsHelper.instrument(request, getClass().getSimpleName(), metrics -> handleRequest(
                 proxy,
                 request,
                 callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(() -> (request.getRegion() != null) ?
-                        ClientBuilder.getLogsClient(request.getRegion()) :
-                        ClientBuilder.getLogsClient()
-                ),
+                RateLimitedProxyClient.wrap(proxy.newProxy(() -> ClientBuilder.getLogsClient(request.getRegion())), request, metrics),
                 logger
-        );
+        ));
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -6,16 +6,18 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
-import software.amazon.cloudformation.LambdaWrapper;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 import java.time.Duration;
 
-import software.amazon.awssdk.regions.Region;
-
 
 public class ClientBuilder {
 
+    private static final String RETRY_PROFILE = "LogAnomalyDetector";
+    private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
     private static final Duration BASE_DELAY = Duration.ofSeconds(2);
     private static final Duration API_CALL_TIMEOUT = Duration.ofSeconds(55);
     private static final int MAX_RETRIES = 4;
@@ -36,23 +38,25 @@ public class ClientBuilder {
                     .throttlingBackoffStrategy(BACKOFF_STRATEGY)
                     .build();
 
+    private static final ClientOverrideConfiguration CONFIGURATION =
+            ClientOverrideConfiguration.builder()
+                    .retryPolicy(RETRY_POLICY)
+                    .apiCallTimeout(API_CALL_TIMEOUT)
+                    .addExecutionInterceptor(new MetricsInterceptor())
+                    .build();
+
+    /**
+     * Returns the shared client for the given region. Region-specific clients reuse the wrapper's HTTP client and are
+     * kept in the common client registry, so warm invocations do not open a new connection pool per request.
+     *
+     * @param region of the client, or null to resolve it from the Lambda environment
+     * @return a CloudWatchLogsClient
+     */
     public static CloudWatchLogsClient getLogsClient(final String region) {
-        return CloudWatchLogsClient.builder()
-                .region(Region.of(region))
-                .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(RETRY_POLICY)
-                        .apiCallTimeout(API_CALL_TIMEOUT)
-                        .build())
-                .build();
+        return ClientRegistry.getClient(region, RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
 
     public static CloudWatchLogsClient getLogsClient() {
-        return CloudWatchLogsClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(RETRY_POLICY)
-                        .apiCallTimeout(API_CALL_TIMEOUT)
-                        .build())
-                .build();
+        return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
-}
\ No newline at end of file
+}
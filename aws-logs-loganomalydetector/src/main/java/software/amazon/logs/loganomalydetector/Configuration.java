@@ -1,6 +1,11 @@
 package software.amazon.logs.loganomalydetector;
 
+import software.amazon.logs.common.MetricsProvider;
+
 class Configuration extends BaseConfiguration {
+    static {
+        MetricsProvider.initialize(ResourceModel.TYPE_NAME);
+    }
 
     public Configuration() {
         super("aws-logs-loganomalydetector.json");
@@ -33,7 +33,7 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ListLogAnomalyDetectorsResponse listLogAnomalyDetectorsResponse;
 
         try {
-            listLogAnomalyDetectorsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), ClientBuilder.getLogsClient()::listLogAnomalyDetectors);
+            listLogAnomalyDetectorsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), ClientBuilder.getLogsClient(request.getRegion())::listLogAnomalyDetectors);
         } catch (InvalidParameterException ex) {
             throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
         } catch (OperationAbortedException ex) {
@@ -3,22 +3,36 @@ package software.amazon.logs.loggroup;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.logs.common.AsyncClientRegistry;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 public class ClientBuilder {
     private ClientBuilder() {}
 
+    private static final String RETRY_PROFILE = "LogGroup";
+    private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
+
     private static final RetryPolicy RETRY_POLICY =
         RetryPolicy.builder()
             .numRetries(6)
             .retryCondition(RetryCondition.defaultRetryCondition())
             .build();
 
-    public static CloudWatchLogsClient getClient() {
-        return CloudWatchLogsClient.builder()
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .overrideConfiguration(ClientOverrideConfiguration.builder().retryPolicy(RETRY_POLICY).build())
+    private static final ClientOverrideConfiguration CONFIGURATION =
+        ClientOverrideConfiguration.builder()
+            .retryPolicy(RETRY_POLICY)
+            .addExecutionInterceptor(new MetricsInterceptor())
             .build();
+
+    public static CloudWatchLogsClient getClient() {
+        return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
+    }
+
+    public static CloudWatchLogsAsyncClient getAsyncClient() {
+        return AsyncClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
 }
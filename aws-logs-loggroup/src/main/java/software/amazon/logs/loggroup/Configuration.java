@@ -3,11 +3,19 @@ package software.amazon.logs.loggroup;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.logs.common.MetricsProvider;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
+    // Timeout of the handler function in template.yml, within which paginated scans must return
+    static final Duration HANDLER_TIMEOUT = Duration.ofSeconds(60);
+
+    static {
+        MetricsProvider.initialize(ResourceModel.TYPE_NAME);
+    }
 
     public Configuration() {
         super("aws-logs-loggroup.json");
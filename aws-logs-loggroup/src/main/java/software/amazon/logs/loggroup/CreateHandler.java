@@ -6,28 +6,37 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
 
 import java.util.Objects;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-LogGroup::Create";
     private static final String DEFAULT_LOG_GROUP_NAME_PREFIX = "LogGroup";
     private static final int MAX_LENGTH_LOG_GROUP_NAME = 512;
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
+
         prepareResourceModel(request);
         final ResourceModel model = request.getDesiredResourceState();
 
         try {
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToCreateRequest(model, request.getDesiredResourceTags()),
-                ClientBuilder.getClient()::createLogGroup);
+            invoke(proxy, Translator.translateToCreateRequest(model, request.getDesiredResourceTags()),
+                ClientBuilder.getClient()::createLogGroup, metrics);
         } catch (final ResourceAlreadyExistsException e) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
                 Objects.toString(model.getPrimaryIdentifier()));
@@ -37,7 +46,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         logger.log(createMessage);
 
         if (model.getRetentionInDays() != null) {
-            updateRetentionInDays(proxy, request, logger);
+            updateRetentionInDays(proxy, request, logger, metrics);
         }
         return ProgressEvent.defaultSuccessHandler(model);
     }
@@ -79,10 +88,11 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
     private void updateRetentionInDays(final AmazonWebServicesClientProxy proxy,
                                        final ResourceHandlerRequest<ResourceModel> request,
-                                       final Logger logger) {
+                                       final Logger logger,
+                                       final MetricsLogger metrics) {
         final ResourceModel model = request.getDesiredResourceState();
-        proxy.injectCredentialsAndInvokeV2(Translator.translateToPutRetentionPolicyRequest(model),
-            ClientBuilder.getClient()::putRetentionPolicy);
+        invoke(proxy, Translator.translateToPutRetentionPolicyRequest(model),
+            ClientBuilder.getClient()::putRetentionPolicy, metrics);
 
         final String retentionPolicyMessage =
             String.format("%s [%s] successfully applied retention in days: [%d].",
@@ -4,23 +4,31 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
 import java.util.Objects;
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-LogGroup::Delete";
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
         try {
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToDeleteRequest(model),
-                ClientBuilder.getClient()::deleteLogGroup);
+            invoke(proxy, Translator.translateToDeleteRequest(model),
+                ClientBuilder.getClient()::deleteLogGroup, metrics);
         } catch (final ResourceNotFoundException e) {
             throw new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
                 Objects.toString(model.getPrimaryIdentifier()));
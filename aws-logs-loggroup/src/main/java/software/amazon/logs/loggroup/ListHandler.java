@@ -1,5 +1,6 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -7,30 +8,87 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.logs.common.ServiceCallHelper;
+import software.amazon.logs.common.TokenBucketRateLimiter;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+public class ListHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-LogGroup::List";
+
+    // Bounds the ListTagsLogGroup calls in flight only, their rate is bounded by the rate limiter
+    static final int DEFAULT_TAG_PARALLELISM = 5;
+
+    private final int tagParallelism;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public ListHandler() {
+        this(DEFAULT_TAG_PARALLELISM);
+    }
+
+    /**
+     * @param tagParallelism maximum number of ListTagsLogGroup calls in flight. A value of 1 fetches tags one by one
+     *                       on the calling thread with the sync client.
+     */
+    ListHandler(final int tagParallelism) {
+        this(tagParallelism, TokenBucketRateLimiter.shared());
+    }
+
+    /**
+     * @param tagParallelism maximum number of ListTagsLogGroup calls in flight
+     * @param rateLimiter    taking a permit before every ListTagsLogGroup call, shared with the other handlers of the process
+     */
+    ListHandler(final int tagParallelism, final TokenBucketRateLimiter rateLimiter) {
+        this.tagParallelism = tagParallelism;
+        this.rateLimiter = rateLimiter;
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final DescribeLogGroupsResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()),
-                    ClientBuilder.getClient()::describeLogGroups);
-
-        final Map<String, ListTagsLogGroupResponse> tagResponses = Translator.streamOfOrEmpty(response.logGroups())
-                .collect(Collectors.toMap(
-                        LogGroup::logGroupName,
-                        logGroup -> proxy.injectCredentialsAndInvokeV2(Translator.translateToListTagsLogGroupRequest(logGroup.logGroupName()),
-                                ClientBuilder.getClient()::listTagsLogGroup))
-                );
+                invoke(proxy, Translator.translateToListRequest(request.getNextToken()),
+                    ClientBuilder.getClient()::describeLogGroups, metrics);
+
+        final List<String> logGroupNames = Translator.streamOfOrEmpty(response.logGroups())
+                .map(LogGroup::logGroupName)
+                .collect(Collectors.toList());
+        final List<ListTagsLogGroupRequest> tagRequests = logGroupNames.stream()
+                .map(Translator::translateToListTagsLogGroupRequest)
+                .collect(Collectors.toList());
+
+        final Function<ListTagsLogGroupRequest, CompletableFuture<ListTagsLogGroupResponse>> asyncListTags =
+                tagParallelism > 1 ? ClientBuilder.getAsyncClient()::listTagsLogGroup : null;
+
+        final List<ListTagsLogGroupResponse> tagResponseList = ServiceCallHelper.invokeAll(
+                proxy,
+                tagRequests,
+                ClientBuilder.getClient()::listTagsLogGroup,
+                asyncListTags,
+                tagParallelism,
+                tagRequest -> rateLimiter.acquire(request.getAwsAccountId(), request.getRegion(), tagRequest));
+
+        final Map<String, ListTagsLogGroupResponse> tagResponses = new HashMap<>();
+        for (int i = 0; i < logGroupNames.size(); i++) {
+            tagResponses.put(logGroupNames.get(i), tagResponseList.get(i));
+        }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .status(OperationStatus.SUCCESS)
@@ -2,6 +2,7 @@ package software.amazon.logs.loggroup;
 
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -9,17 +10,43 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.PaginationDriver;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-LogGroup::Read";
+
+    private final Supplier<PaginationDriver> paginationDrivers;
+
+    public ReadHandler() {
+        this.paginationDrivers = () -> PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT);
+    }
+
+    /**
+     * @param timeBudget time an invocation may spend paginating before failing,
+     *                   instead of the time left before the handler times out
+     */
+    ReadHandler(final Duration timeBudget) {
+        this.paginationDrivers = () -> new PaginationDriver(timeBudget);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -27,37 +54,25 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             throwNotFoundException(model);
         }
 
-        DescribeLogGroupsResponse response = null;
-        LogGroup matchingLogGroup = null;
-        String nextToken = null;
-        // Keep paginating until requested log group is found
-        do {
-            try {
-                response = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model, nextToken),
-                        ClientBuilder.getClient()::describeLogGroups);
-            } catch (final ResourceNotFoundException e) {
-                throwNotFoundException(model);
-            }
-
-            matchingLogGroup = Translator.getMatchingLogGroup(response, model.getLogGroupName());
+        final AtomicReference<LogGroup> matchingLogGroup = new AtomicReference<>();
+        final PaginationDriver paginationDriver = paginationDrivers.get();
+        final PaginationDriver.Outcome outcome = findLogGroup(proxy, model, paginationDriver, matchingLogGroup, metrics);
 
-            // If log group found, break out of loop
-            if (matchingLogGroup != null) {
-                break;
-            }
-
-            nextToken = response.nextToken();
-        } while (nextToken != null);
+        // Read may only end in SUCCESS or FAILED, and is not called back, so a scan running out of time cannot be resumed
+        if (outcome.isSuspended()) {
+            throw new CfnGeneralServiceException(String.format("DescribeLogGroups for log group %s, out of time after %d pages",
+                    model.getLogGroupName(), paginationDriver.getPagesScanned()));
+        }
 
-        // If paginated all log groups, still cannot find it
-        if (matchingLogGroup == null) {
+        // If paginated all candidate log groups, still cannot find it
+        if (matchingLogGroup.get() == null) {
             throwNotFoundException(model);
         }
 
         ListTagsLogGroupResponse tagsResponse = null;
         try {
-            tagsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListTagsLogGroupRequest(model.getLogGroupName()),
-                    ClientBuilder.getClient()::listTagsLogGroup);
+            tagsResponse = invoke(proxy, Translator.translateToListTagsLogGroupRequest(model.getLogGroupName()),
+                    ClientBuilder.getClient()::listTagsLogGroup, metrics);
         } catch (final CloudWatchLogsException e) {
             if (Translator.ACCESS_DENIED_ERROR_CODE.equals(e.awsErrorDetails().errorCode())) {
                 // fail silently, if there is no permission to list tags
@@ -67,11 +82,48 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             }
         }
 
-        ResourceModel modelFromReadResult = Translator.translateForReadResponse(matchingLogGroup, tagsResponse);
+        ResourceModel modelFromReadResult = Translator.translateForReadResponse(matchingLogGroup.get(), tagsResponse);
 
         return ProgressEvent.defaultSuccessHandler(modelFromReadResult);
     }
 
+    /**
+     * Looks up a log group by its exact name. Results of a prefix search come back sorted by name, so the scan stops
+     * at the first page that holds a name sorting after the requested one instead of paginating every log group that
+     * shares the prefix. The number of pages scanned is published in the metrics of the invocation.
+     */
+    private PaginationDriver.Outcome findLogGroup(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel model,
+        final PaginationDriver paginationDriver,
+        final AtomicReference<LogGroup> matchingLogGroup,
+        final MetricsLogger metrics) {
+
+        return paginationDriver.paginate(
+                null,
+                nextToken -> describeLogGroups(proxy, model, nextToken, metrics),
+                DescribeLogGroupsResponse::nextToken,
+                response -> {
+                    matchingLogGroup.set(Translator.getMatchingLogGroup(response, model.getLogGroupName()));
+                    return matchingLogGroup.get() != null || Translator.isPastLogGroupName(response, model.getLogGroupName());
+                });
+    }
+
+    private DescribeLogGroupsResponse describeLogGroups(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel model,
+        final String nextToken,
+        final MetricsLogger metrics) {
+
+        try {
+            return invoke(proxy, Translator.translateToReadRequest(model, nextToken),
+                    ClientBuilder.getClient()::describeLogGroups, metrics);
+        } catch (final ResourceNotFoundException e) {
+            throwNotFoundException(model);
+            return null;
+        }
+    }
+
     private void throwNotFoundException(final ResourceModel model) {
         final ResourceModel nullSafeModel = model == null ? ResourceModel.builder().build() : model;
         throw new software.amazon.cloudformation.exceptions.ResourceNotFoundException(ResourceModel.TYPE_NAME,
@@ -28,19 +28,22 @@ import java.util.stream.Stream;
 final class Translator {
 
     static final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
+    // Largest page size accepted by DescribeLogGroups
+    static final int DESCRIBE_LOG_GROUPS_MAX_LIMIT = 50;
 
     private Translator() {}
 
     static DescribeLogGroupsRequest translateToReadRequest(final ResourceModel model, final String nextToken) {
         return DescribeLogGroupsRequest.builder()
                 .logGroupNamePrefix(model.getLogGroupName())
+                .limit(DESCRIBE_LOG_GROUPS_MAX_LIMIT)
                 .nextToken(nextToken)
                 .build();
     }
 
     static DescribeLogGroupsRequest translateToListRequest(final String nextToken) {
         return DescribeLogGroupsRequest.builder()
-                .limit(50)
+                .limit(DESCRIBE_LOG_GROUPS_MAX_LIMIT)
                 .nextToken(nextToken)
                 .build();
     }
@@ -152,6 +155,16 @@ final class Translator {
         return matchedLogGroup;
     }
 
+    // DescribeLogGroups returns log groups sorted by name, so once a page holds a name that sorts after the requested one,
+    // the requested log group cannot appear on any later page
+    static boolean isPastLogGroupName(final DescribeLogGroupsResponse response, final String requestLogGroupName) {
+        return streamOfOrEmpty(response.logGroups())
+                .filter(Objects::nonNull)
+                .map(LogGroup::logGroupName)
+                .filter(Objects::nonNull)
+                .anyMatch(name -> name.compareTo(requestLogGroupName) > 0);
+    }
+
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
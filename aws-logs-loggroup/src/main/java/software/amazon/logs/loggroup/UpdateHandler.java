@@ -20,6 +20,9 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,14 +35,19 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-LogGroup::Update";
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
@@ -47,22 +55,22 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         final boolean kmsKeyChanged = ! kmsKeyUnchanged(previousModel, model);
         final boolean tagsChanged =  TagHelper.shouldUpdateTags(model, request);
         if (retentionChanged && model.getRetentionInDays() == null) {
-            deleteRetentionPolicy(proxy, request, logger);
+            deleteRetentionPolicy(proxy, request, logger, metrics);
         } else if (retentionChanged){
-            putRetentionPolicy(proxy, request, logger);
+            putRetentionPolicy(proxy, request, logger, metrics);
         }
 
         // It can take up to five minutes for the (dis)associate operation to take effect
         // It's unclear from the documentation if that state can be checked via the API.
         // https://docs.aws.amazon.com/AmazonCloudWatch/latest/logs/encrypt-log-data-kms.html
         if (kmsKeyChanged && model.getKmsKeyId() == null) {
-            disassociateKmsKey(proxy, request, logger);
+            disassociateKmsKey(proxy, request, logger, metrics);
         } else if (kmsKeyChanged) {
-            associateKmsKey(proxy, request, logger);
+            associateKmsKey(proxy, request, logger, metrics);
         }
 
         if (tagsChanged) {
-            updateTags(proxy, model, request, logger);
+            updateTags(proxy, model, request, logger, metrics);
         }
 
         return ProgressEvent.defaultSuccessHandler(model);
@@ -70,13 +78,14 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
     private void deleteRetentionPolicy(final AmazonWebServicesClientProxy proxy,
                                        final ResourceHandlerRequest<ResourceModel> request,
-                                       final Logger logger) {
+                                       final Logger logger,
+                                       final MetricsLogger metrics) {
         final ResourceModel model = request.getDesiredResourceState();
         final DeleteRetentionPolicyRequest deleteRetentionPolicyRequest =
             Translator.translateToDeleteRetentionPolicyRequest(model);
         try {
-            proxy.injectCredentialsAndInvokeV2(deleteRetentionPolicyRequest,
-                ClientBuilder.getClient()::deleteRetentionPolicy);
+            invoke(proxy, deleteRetentionPolicyRequest,
+                ClientBuilder.getClient()::deleteRetentionPolicy, metrics);
         } catch (final ResourceNotFoundException e) {
             throwNotFoundException(model);
         }
@@ -89,13 +98,14 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
     private void putRetentionPolicy(final AmazonWebServicesClientProxy proxy,
                                     final ResourceHandlerRequest<ResourceModel> request,
-                                    final Logger logger) {
+                                    final Logger logger,
+                                    final MetricsLogger metrics) {
         final ResourceModel model = request.getDesiredResourceState();
         final PutRetentionPolicyRequest putRetentionPolicyRequest =
             Translator.translateToPutRetentionPolicyRequest(model);
         try {
-            proxy.injectCredentialsAndInvokeV2(putRetentionPolicyRequest,
-                ClientBuilder.getClient()::putRetentionPolicy);
+            invoke(proxy, putRetentionPolicyRequest,
+                ClientBuilder.getClient()::putRetentionPolicy, metrics);
         } catch (final ResourceNotFoundException e) {
             throwNotFoundException(model);
         }
@@ -108,13 +118,14 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
     private void disassociateKmsKey(final AmazonWebServicesClientProxy proxy,
                                     final ResourceHandlerRequest<ResourceModel> request,
-                                    final Logger logger) {
+                                    final Logger logger,
+                                    final MetricsLogger metrics) {
         final ResourceModel model = request.getDesiredResourceState();
         final DisassociateKmsKeyRequest disassociateKmsKeyRequest =
                 Translator.translateToDisassociateKmsKeyRequest(model);
         try {
-            proxy.injectCredentialsAndInvokeV2(disassociateKmsKeyRequest,
-                    ClientBuilder.getClient()::disassociateKmsKey);
+            invoke(proxy, disassociateKmsKeyRequest,
+                    ClientBuilder.getClient()::disassociateKmsKey, metrics);
         } catch (final ResourceNotFoundException e) {
             // The specified resource does not exist.
             throwNotFoundException(model);
@@ -138,13 +149,14 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
     private void associateKmsKey(final AmazonWebServicesClientProxy proxy,
                                  final ResourceHandlerRequest<ResourceModel> request,
-                                 final Logger logger) {
+                                 final Logger logger,
+                                 final MetricsLogger metrics) {
         final ResourceModel model = request.getDesiredResourceState();
         final AssociateKmsKeyRequest associateKmsKeyRequest =
                 Translator.translateToAssociateKmsKeyRequest(model);
         try {
-            proxy.injectCredentialsAndInvokeV2(associateKmsKeyRequest,
-                    ClientBuilder.getClient()::associateKmsKey);
+            invoke(proxy, associateKmsKeyRequest,
+                    ClientBuilder.getClient()::associateKmsKey, metrics);
         } catch (final ResourceNotFoundException e) {
             // The specified resource does not exist.
             throwNotFoundException(model);
@@ -169,15 +181,16 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     private void updateTags(final AmazonWebServicesClientProxy proxy,
                             final ResourceModel model,
                             final ResourceHandlerRequest<ResourceModel> request,
-                            final Logger logger) {
+                            final Logger logger,
+                            final MetricsLogger metrics) {
         
         try {
             // Need to make a ListTagsLogGroup request here
             // Since we launched tag support for LogGroup late, existing stack tags will not
             // propagate to the LogGroup resource using getPreviouslyAttachedTags() which returns
             // previous stack tags regardless if they are propagated to the resource or not.
-            final ListTagsLogGroupResponse listTagsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListTagsLogGroupRequest(model.getLogGroupName()),
-                    ClientBuilder.getClient()::listTagsLogGroup);
+            final ListTagsLogGroupResponse listTagsResponse = invoke(proxy, Translator.translateToListTagsLogGroupRequest(model.getLogGroupName()),
+                    ClientBuilder.getClient()::listTagsLogGroup, metrics);
 
             final Map<String, String> currentTags = listTagsResponse != null ? listTagsResponse.tags() : Collections.emptyMap();
             final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(model, request);
@@ -187,8 +200,8 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             
             if (!tagsToRemove.isEmpty()) {
                 final List<String> tagKeys = new ArrayList<>(tagsToRemove);
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToUntagLogGroupRequest(model.getLogGroupName(), tagKeys),
-                    ClientBuilder.getClient()::untagLogGroup);
+                invoke(proxy, Translator.translateToUntagLogGroupRequest(model.getLogGroupName(), tagKeys),
+                    ClientBuilder.getClient()::untagLogGroup, metrics);
                 
                 final String message =
                     String.format("%s [%s] successfully removed tags: [%s]",
@@ -196,8 +209,8 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                 logger.log(message);
             }
             if(!tagsToAdd.isEmpty()) {
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToTagLogGroupRequest(model.getLogGroupName(), tagsToAdd),
-                    ClientBuilder.getClient()::tagLogGroup);
+                invoke(proxy, Translator.translateToTagLogGroupRequest(model.getLogGroupName(), tagsToAdd),
+                    ClientBuilder.getClient()::tagLogGroup, metrics);
                 
                 final String message =
                     String.format("%s [%s] successfully added tags: [%s]",
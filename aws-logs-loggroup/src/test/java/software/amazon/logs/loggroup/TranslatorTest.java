@@ -51,6 +51,7 @@ public class TranslatorTest {
     public void testTranslateToRead() {
         final DescribeLogGroupsRequest request = DescribeLogGroupsRequest.builder()
             .logGroupNamePrefix(RESOURCE_MODEL.getLogGroupName())
+            .limit(50)
             .build();
         assertThat(Translator.translateToReadRequest(RESOURCE_MODEL, null)).isEqualToComparingFieldByField(request);
     }
@@ -232,6 +233,18 @@ public class TranslatorTest {
         assertThat(Translator.getMatchingLogGroup(response, "NonexistentLogGroup")).isNull();
     }
 
+    @Test
+    public void testIsPastLogGroupName() {
+        final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
+                .logGroups(Arrays.asList(
+                        LogGroup.builder().logGroupName("LogGroup").build(),
+                        LogGroup.builder().logGroupName("LogGroup2").build()))
+                .build();
+        assertThat(Translator.isPastLogGroupName(response, "LogGroup")).isTrue();
+        assertThat(Translator.isPastLogGroupName(response, "LogGroup2")).isFalse();
+        assertThat(Translator.isPastLogGroupName(DescribeLogGroupsResponse.builder().build(), "LogGroup")).isFalse();
+    }
+
     @Test
     public void buildResourceAlreadyExistsErrorMessage() {
         final String expected = "Resource of type 'AWS::Logs::LogGroup' with identifier 'ID' already exists.";
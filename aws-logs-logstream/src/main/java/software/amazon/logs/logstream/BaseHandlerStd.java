@@ -14,6 +14,9 @@ import software.amazon.cloudformation.exceptions.*;
 
 import software.amazon.cloudformation.proxy.*;
 
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.RateLimitedProxyClient;
+
 import static java.util.Objects.requireNonNull;
 
 import com.amazonaws.event.request.Progress;
@@ -45,13 +48,13 @@ private final static String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundExce
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
+    return MetricsHelper.instrument(request, getClass().getSimpleName(), metrics -> handleRequest(
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
+      RateLimitedProxyClient.wrap(proxy.newProxy(ClientBuilder::getClient), request, metrics),
       logger
-    );
+    ));
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
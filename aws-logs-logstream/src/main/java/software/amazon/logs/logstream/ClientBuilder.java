@@ -7,12 +7,15 @@ import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 import java.time.Duration;
 
 public class ClientBuilder {
-  private static CloudWatchLogsClient cloudWatchLogsClient;
+  private static final String RETRY_PROFILE = "LogStream";
+  private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
 
   private static final BackoffStrategy BACKOFF_STRATEGY =
           EqualJitterBackoffStrategy.builder()
@@ -27,16 +30,14 @@ public class ClientBuilder {
                   .throttlingBackoffStrategy(BACKOFF_STRATEGY)
                   .build();
 
+  private static final ClientOverrideConfiguration CONFIGURATION =
+          ClientOverrideConfiguration.builder()
+                  .retryPolicy(RETRY_POLICY)
+                  .apiCallTimeout(Duration.ofSeconds(55))
+                  .addExecutionInterceptor(new MetricsInterceptor())
+                  .build();
+
   public static CloudWatchLogsClient getClient() {
-    if (cloudWatchLogsClient == null) {
-      return CloudWatchLogsClient.builder()
-              .httpClient(LambdaWrapper.HTTP_CLIENT)
-              .overrideConfiguration(ClientOverrideConfiguration.builder()
-                      .retryPolicy(RETRY_POLICY)
-                      .apiCallTimeout(Duration.ofSeconds(55))
-                      .build())
-              .build();
-    }
-    return cloudWatchLogsClient;
+    return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
   }
 }
@@ -8,15 +8,17 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Duration;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
-import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -25,8 +27,10 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Exponential;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.CachingProxyClient;
 import software.amazon.logs.common.MetricsHelper;
-import software.amazon.logs.common.MetricsProvider;
+import software.amazon.logs.common.PaginationDriver;
+import software.amazon.logs.common.RateLimitedProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -54,28 +58,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger
     ) {
-        final long startTime = System.currentTimeMillis();
-        MetricsLogger metricsLogger = MetricsProvider.getMetrics();
-        MetricsHelper.putCFNRequestProperties(metricsLogger, request);
-
-        ProgressEvent<ResourceModel, CallbackContext> result;
-        try {
-            result =
-                    handleRequest(
-                            proxy,
-                            request,
-                            callbackContext != null ? callbackContext : new CallbackContext(),
-                            proxy.newProxy(ClientBuilder::getClient),
-                            logger,
-                            MetricsProvider.getMetrics()
-                    );
-            MetricsHelper.putCFNProperties(metricsLogger, result);
-        } finally {
-            MetricsHelper.putTime(metricsLogger, startTime, System.currentTimeMillis());
-            MetricsHelper.flush(metricsLogger);
-        }
-
-        return result;
+        return MetricsHelper.instrument(request, getClass().getSimpleName(), metricsLogger ->
+                handleRequest(
+                        proxy,
+                        request,
+                        callbackContext != null ? callbackContext : new CallbackContext(),
+                        CachingProxyClient.wrap(
+                                RateLimitedProxyClient.wrap(proxy.newProxy(ClientBuilder::getClient), request, metricsLogger),
+                                request,
+                                metricsLogger
+                        ),
+                        logger,
+                        metricsLogger
+                )
+        );
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -105,18 +101,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Logger logger,
             final MetricsLogger metrics
     ) {
-        final DescribeMetricFiltersRequest translateToReadRequest = Translator.translateToReadRequest(model);
-        final DescribeMetricFiltersResponse response;
+        return describe(proxyClient, model, handlerAction, logger, metrics) != null;
+    }
 
+    /**
+     * Describes the Metric Filter as currently stored by the service.
+     *
+     * @param proxyClient The proxy client used to execute API calls.
+     * @param model       The resource model representing the metric filter.
+     * @param handlerAction The action being performed by the handler.
+     * @param logger      The logger.
+     * @param metrics     The metrics logger.
+     * @return The metric filter, or null if it does not exist.
+     * @throws BaseHandlerException If an exception occurs while describing the resource.
+     */
+    protected MetricFilter describe(
+            final ProxyClient<CloudWatchLogsClient> proxyClient,
+            final ResourceModel model,
+            final Action handlerAction,
+            final Logger logger,
+            final MetricsLogger metrics
+    ) {
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(translateToReadRequest, proxyClient.client()::describeMetricFilters);
-            if (response == null || !response.hasMetricFilters() || response.metricFilters().isEmpty()) {
-                return false;
-            }
-
-            return model.getFilterName().equals(response.metricFilters().get(0).filterName());
+            return findMetricFilter(proxyClient, model, metrics);
         } catch (final ResourceNotFoundException ignored) {
-            return false;
+            return null;
         } catch (final CloudWatchLogsException serviceException) {
             BaseHandlerException handlerException = Translator.translateException(serviceException);
 
@@ -139,6 +148,46 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Looks up a metric filter by its exact name. The describe requests filter by the name as a prefix, so the pages only
+     * hold the metric filter and the ones whose name extends it, and the scan stops at the page holding the exact name.
+     *
+     * @param proxyClient The proxy client used to execute API calls.
+     * @param model       The resource model representing the metric filter.
+     * @param metrics     The metrics logger.
+     * @return The metric filter, or null if it does not exist.
+     * @throws CloudWatchLogsException If a describe call fails.
+     */
+    protected MetricFilter findMetricFilter(
+            final ProxyClient<CloudWatchLogsClient> proxyClient,
+            final ResourceModel model,
+            final MetricsLogger metrics
+    ) {
+        final AtomicReference<MetricFilter> matchingMetricFilter = new AtomicReference<>();
+        final PaginationDriver.Outcome outcome = PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT).paginate(
+                null,
+                nextToken -> proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToReadRequest(model, nextToken),
+                        proxyClient.client()::describeMetricFilters
+                ),
+                DescribeMetricFiltersResponse::nextToken,
+                response -> {
+                    if (response == null) {
+                        return true;
+                    }
+                    MetricsHelper.putServiceMetrics(metrics, response);
+                    matchingMetricFilter.set(Translator.getMatchingMetricFilter(response, model.getFilterName()));
+                    return matchingMetricFilter.get() != null;
+                }
+        );
+
+        // A log group holds at most 100 metric filters, so the scan takes a few pages at most and should never run out of time
+        if (outcome.isSuspended()) {
+            throw new CfnGeneralServiceException(String.format("DescribeMetricFilters for metric filter %s", model.getFilterName()));
+        }
+        return matchingMetricFilter.get();
+    }
+
     /**
      * Returns the stack trace of the given exception as a string.
      *
@@ -7,10 +7,37 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 public class ClientBuilder {
 
+    private static final String RETRY_PROFILE = "MetricFilter";
+    private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
+    private static final Duration BASE_DELAY = Duration.ofSeconds(2);
+    private static final int MAX_RETRIES = 5_000;
+
+    private static final FullJitterBackoffStrategy BACKOFF_STRATEGY = FullJitterBackoffStrategy
+        .builder()
+        .baseDelay(BASE_DELAY)
+        .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF)
+        .build();
+
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy
+        .builder()
+        .numRetries(MAX_RETRIES)
+        .retryCondition(RetryCondition.defaultRetryCondition())
+        .throttlingBackoffStrategy(BACKOFF_STRATEGY)
+        .backoffStrategy(BACKOFF_STRATEGY)
+        .build();
+
+    private static final ClientOverrideConfiguration CONFIGURATION = ClientOverrideConfiguration
+        .builder()
+        .retryPolicy(RETRY_POLICY)
+        .addExecutionInterceptor(new MetricsInterceptor())
+        .build();
+
     /**
      * Control plane APIs have a burst limit of 10 and rate limit of 5
      * This returns a client with a full jitter exponential back off strategy with
@@ -20,25 +47,6 @@ public class ClientBuilder {
      * @return a CloudWatchLogsClient
      */
     public static CloudWatchLogsClient getClient() {
-        final Duration baseDelay = Duration.ofSeconds(2);
-        final int maxRetries = 5_000;
-
-        FullJitterBackoffStrategy backoffStrategy = FullJitterBackoffStrategy
-            .builder()
-            .baseDelay(baseDelay)
-            .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF)
-            .build();
-
-        final RetryPolicy retryPolicy = RetryPolicy
-            .builder()
-            .numRetries(maxRetries)
-            .retryCondition(RetryCondition.defaultRetryCondition())
-            .throttlingBackoffStrategy(backoffStrategy)
-            .backoffStrategy(backoffStrategy)
-            .build();
-
-        ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder().retryPolicy(retryPolicy).build();
-
-        return CloudWatchLogsClient.builder().overrideConfiguration(configuration).httpClient(LambdaWrapper.HTTP_CLIENT).build();
+        return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
 }
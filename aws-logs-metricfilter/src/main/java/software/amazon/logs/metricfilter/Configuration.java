@@ -2,7 +2,14 @@ package software.amazon.logs.metricfilter;
 
 import software.amazon.logs.common.MetricsProvider;
 
+import java.time.Duration;
+
 class Configuration extends BaseConfiguration {
+    // Timeout of the handler function in template.yml, within which paginated scans must return
+    static final Duration HANDLER_TIMEOUT = Duration.ofSeconds(60);
+    // Whether Create describes the metric filter it put, instead of returning the written model as a read would return it
+    static final boolean VERIFY_READ_AFTER_CREATE = false;
+
     static {
         MetricsProvider.initialize(ResourceModel.TYPE_NAME);
     }
@@ -1,7 +1,10 @@
 package software.amazon.logs.metricfilter;
 
 import static software.amazon.logs.common.MetricsConstants.CFN;
+import static software.amazon.logs.common.MetricsConstants.PRE_CHECK;
+import static software.amazon.logs.common.MetricsConstants.READ_BACK;
 import static software.amazon.logs.common.MetricsConstants.SERVICE;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_CALL;
 import static software.amazon.logs.metricfilter.MetricsHelper.putMetricFilterRequestMetrics;
 
 import com.amazonaws.util.StringUtils;
@@ -14,12 +17,12 @@ import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.CachingProxyClient;
 import software.amazon.logs.common.MetricsConstants;
 import software.amazon.logs.common.MetricsHelper;
 
@@ -29,6 +32,21 @@ public class CreateHandler extends BaseHandlerStd {
     // if you change the value in the line below, please also update the resource schema
     private static final int MAX_LENGTH_METRIC_FILTER_NAME = 512;
 
+    private final boolean verifyRead;
+
+    public CreateHandler() {
+        this(Configuration.VERIFY_READ_AFTER_CREATE);
+    }
+
+    /**
+     * @param verifyRead whether to describe the metric filter once created, instead of returning the written model as a read
+     *                   would return it, see {@link Translator#translateFromWrite(ResourceModel)}. Deployed handlers take it
+     *                   from {@link Configuration#VERIFY_READ_AFTER_CREATE}.
+     */
+    CreateHandler(final boolean verifyRead) {
+        this.verifyRead = verifyRead;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -55,7 +73,9 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent
             .progress(model, callbackContext)
             .then(progress ->
-                callbackContext.isPreCreateCheckDone() ? progress : preCreateCheck(proxyClient, model, callbackContext, logger, metrics)
+                callbackContext.isPreCreateCheckDone()
+                    ? progress
+                    : MetricsHelper.timePhase(metrics, PRE_CHECK, () -> preCreateCheck(proxyClient, model, callbackContext, logger, metrics))
             )
             .then(progress ->
                 proxy
@@ -66,11 +86,17 @@ public class CreateHandler extends BaseHandlerStd {
                     .handleError((serviceRequest, exception, client, resourceModel, context) ->
                         handleError(exception, resourceModel, context)
                     )
-                    .done(x ->
-                        ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).resourceModel(model).build()
-                    )
+                    .progress()
             )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger, metrics));
+            .then(progress ->
+                verifyRead
+                    ? MetricsHelper.timePhase(
+                        metrics,
+                        READ_BACK,
+                        () -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger, metrics)
+                    )
+                    : ProgressEvent.defaultSuccessHandler(Translator.translateFromWrite(model))
+            );
     }
 
     /**
@@ -93,7 +119,8 @@ public class CreateHandler extends BaseHandlerStd {
     ) {
         callbackContext.setPreCreateCheckDone(true);
 
-        if (exists(proxyClient, model, Action.CREATE, logger, metrics)) {
+        // Not served from the describe cache, a filter deleted within its TTL would fail the create
+        if (exists(CachingProxyClient.bypass(proxyClient), model, Action.CREATE, logger, metrics)) {
             logger.log(
                 String.format(
                     "[PRE_CREATE][FAILED] Metric Filter %s in log group %s already exists.",
@@ -144,7 +171,12 @@ public class CreateHandler extends BaseHandlerStd {
         final String logGroupName = awsRequest.logGroupName();
 
         try {
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter);
+            awsResponse =
+                MetricsHelper.timePhase(
+                    metrics,
+                    SERVICE_CALL,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter)
+                );
         } catch (final CloudWatchLogsException serviceException) {
             final BaseHandlerException handlerException = Translator.translateException(serviceException);
 
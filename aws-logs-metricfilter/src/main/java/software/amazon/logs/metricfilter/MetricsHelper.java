@@ -8,6 +8,8 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterRe
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+import software.amazon.logs.common.MetricKey;
 
 /**
  * Helper class specific to Metric Filter resource to be used with an EMF MetricsLogger object to publish metrics and properties
@@ -18,6 +20,7 @@ final class MetricsHelper {
     public static final String LOG_GROUP_NAME = "LogGroupName";
     public static final String FILTER_NAME = "FilterName";
     public static final String FILTER_NAME_PREFIX = "FilterNamePrefix";
+    public static final MetricKey NO_OP_UPDATE_METRIC = MetricKey.of("NoOpUpdate", Unit.COUNT);
 
     private MetricsHelper() {}
 
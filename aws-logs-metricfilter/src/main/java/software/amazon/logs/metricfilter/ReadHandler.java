@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -60,21 +61,21 @@ public class ReadHandler extends BaseHandlerStd {
         final Logger logger,
         final MetricsLogger metrics
     ) {
-        DescribeMetricFiltersResponse awsResponse;
+        final MetricFilter metricFilter;
         putMetricFilterRequestMetrics(metrics, awsRequest);
 
-        final String filterNamePrefix = awsRequest.filterNamePrefix();
+        final String filterName = model.getFilterName();
         final String logGroupName = awsRequest.logGroupName();
 
         try {
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeMetricFilters);
+            metricFilter = findMetricFilter(proxyClient, model, metrics);
         } catch (CloudWatchLogsException serviceException) {
             BaseHandlerException handlerException = Translator.translateException(serviceException);
 
             logger.log(
                 String.format(
-                    "[READ][EXCEPTION] Encountered exception reading metric filters with prefix %s in log group %s: %s: %s",
-                    filterNamePrefix,
+                    "[READ][EXCEPTION] Encountered exception reading metric filter %s in log group %s: %s: %s",
+                    filterName,
                     logGroupName,
                     serviceException.getClass().getSimpleName(),
                     serviceException.getMessage()
@@ -87,17 +88,13 @@ public class ReadHandler extends BaseHandlerStd {
             throw handlerException;
         }
 
-        MetricsHelper.putServiceMetrics(metrics, awsResponse);
-
-        if (awsResponse != null && awsResponse.metricFilters().isEmpty()) {
-            logger.log(
-                String.format("[READ][FAILED] No metric filter with prefix %s exists in log group %s", filterNamePrefix, logGroupName)
-            );
+        if (metricFilter == null) {
+            logger.log(String.format("[READ][FAILED] No metric filter %s exists in log group %s", filterName, logGroupName));
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, Objects.toString(model.getPrimaryIdentifier()));
         }
 
-        logger.log(String.format("[READ][SUCCESS] Found metric filters with prefix %s in log group %s", filterNamePrefix, logGroupName));
+        logger.log(String.format("[READ][SUCCESS] Found metric filter %s in log group %s", filterName, logGroupName));
 
-        return awsResponse;
+        return DescribeMetricFiltersResponse.builder().metricFilters(metricFilter).build();
     }
 }
@@ -1,9 +1,13 @@
 package software.amazon.logs.metricfilter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -30,6 +34,8 @@ import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededExceptio
 
 public class Translator {
 
+    static final int DESCRIBE_METRIC_FILTERS_MAX_LIMIT = 50;
+
     static BaseHandlerException translateException(final AwsServiceException e) {
         if (e instanceof InvalidParameterException) {
             return new CfnInvalidRequestException(String.format("%s. %s", ResourceModel.TYPE_NAME, e.getMessage()), e);
@@ -47,6 +53,9 @@ public class Translator {
         return new CfnGeneralServiceException(e);
     }
 
+    /**
+     * Translates a metric transformation with a single builder, so no intermediate SDK model is copied
+     */
     static software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation translateMetricTransformationToSdk(
         final software.amazon.logs.metricfilter.MetricTransformation metricTransformation
     ) {
@@ -54,29 +63,32 @@ public class Translator {
             return null;
         }
 
-        software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation metricTransformationSDKModel = software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation
+        final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation.Builder builder = software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation
             .builder()
             .metricName(metricTransformation.getMetricName())
             .metricValue(metricTransformation.getMetricValue())
             .metricNamespace(metricTransformation.getMetricNamespace())
-            .defaultValue(metricTransformation.getDefaultValue())
-            .build();
+            .defaultValue(metricTransformation.getDefaultValue());
 
-        if (metricTransformation.getDimensions() != null && !metricTransformation.getDimensions().isEmpty()) {
-            HashMap<String, String> dimensionsMap = new HashMap<String, String>();
-            for (Dimension entry : metricTransformation.getDimensions()) {
-                dimensionsMap.put(entry.getKey(), entry.getValue());
+        final Set<Dimension> dimensions = metricTransformation.getDimensions();
+        if (dimensions != null && !dimensions.isEmpty()) {
+            final Map<String, String> dimensionsMap = new HashMap<>(hashCapacity(dimensions.size()));
+            for (final Dimension dimension : dimensions) {
+                dimensionsMap.put(dimension.getKey(), dimension.getValue());
             }
-            metricTransformationSDKModel = metricTransformationSDKModel.toBuilder().dimensions(dimensionsMap).build();
+            builder.dimensions(dimensionsMap);
         }
 
         if (metricTransformation.getUnit() != null) {
-            metricTransformationSDKModel = metricTransformationSDKModel.toBuilder().unit(metricTransformation.getUnit()).build();
+            builder.unit(metricTransformation.getUnit());
         }
 
-        return metricTransformationSDKModel;
+        return builder.build();
     }
 
+    /**
+     * Translates a metric transformation with a single builder, so no intermediate resource model is created
+     */
     static software.amazon.logs.metricfilter.MetricTransformation translateMetricTransformationFromSdk(
         final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation metricTransformation
     ) {
@@ -84,29 +96,24 @@ public class Translator {
             return null;
         }
 
-        software.amazon.logs.metricfilter.MetricTransformation metricTransformationLogsModel = software.amazon.logs.metricfilter.MetricTransformation
+        final software.amazon.logs.metricfilter.MetricTransformation.MetricTransformationBuilder builder = software.amazon.logs.metricfilter.MetricTransformation
             .builder()
             .metricName(metricTransformation.metricName())
             .metricValue(metricTransformation.metricValue())
             .metricNamespace(metricTransformation.metricNamespace())
             .defaultValue(metricTransformation.defaultValue())
-            .build();
+            .unit(metricTransformation.unitAsString());
 
         if (metricTransformation.hasDimensions()) {
-            Set<Dimension> dimensionsSet = new HashSet<Dimension>();
-
-            for (String name : metricTransformation.dimensions().keySet()) {
-                String key = name.toString();
-                String value = metricTransformation.dimensions().get(name).toString();
-                dimensionsSet.add(Dimension.builder().key(key).value(value).build());
+            final Map<String, String> dimensions = metricTransformation.dimensions();
+            final Set<Dimension> dimensionsSet = new HashSet<>(hashCapacity(dimensions.size()));
+            for (final Map.Entry<String, String> dimension : dimensions.entrySet()) {
+                dimensionsSet.add(Dimension.builder().key(dimension.getKey()).value(dimension.getValue()).build());
             }
-            metricTransformationLogsModel.setDimensions(dimensionsSet);
-        }
-        if (metricTransformation.unit() != null) {
-            metricTransformationLogsModel.setUnit(metricTransformation.unitAsString());
+            builder.dimensions(dimensionsSet);
         }
 
-        return metricTransformationLogsModel;
+        return builder.build();
     }
 
     static List<software.amazon.logs.metricfilter.MetricTransformation> translateMetricTransformationFromSdk(
@@ -135,6 +142,80 @@ public class Translator {
             .build();
     }
 
+    /**
+     * Compares the desired state of a metric filter with the filter stored by the service, so an update that would not change
+     * anything can skip PutMetricFilter. Filter patterns are compared without insignificant whitespace, and metric
+     * transformations are compared regardless of their order, with dimensions compared as sets.
+     *
+     * @param model        desired state of the metric filter
+     * @param metricFilter metric filter as described by the service
+     * @return true if putting the desired state would leave the metric filter unchanged
+     */
+    static boolean isUnchanged(final ResourceModel model, final software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter metricFilter) {
+        if (
+            !Objects.equals(model.getFilterName(), metricFilter.filterName()) ||
+            !Objects.equals(model.getLogGroupName(), metricFilter.logGroupName()) ||
+            !normalizeFilterPattern(model.getFilterPattern()).equals(normalizeFilterPattern(metricFilter.filterPattern()))
+        ) {
+            return false;
+        }
+
+        final List<MetricTransformation> desired = model.getMetricTransformations() == null
+            ? Collections.emptyList()
+            : model.getMetricTransformations();
+        final List<software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation> remaining = metricFilter.hasMetricTransformations()
+            ? new ArrayList<>(metricFilter.metricTransformations())
+            : new ArrayList<>();
+        if (desired.size() != remaining.size()) {
+            return false;
+        }
+
+        // The SDK model compares dimensions as maps, so their order does not matter either
+        for (final MetricTransformation metricTransformation : desired) {
+            if (!remaining.remove(translateMetricTransformationToSdk(metricTransformation))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Trims a filter pattern and collapses runs of structural whitespace, which do not change what the pattern matches. Quoted
+     * terms and {@code %regex%} terms match whitespace literally, so they are kept verbatim.
+     * A null pattern is the empty pattern, as the API returns null for it.
+     */
+    static String normalizeFilterPattern(final String filterPattern) {
+        if (filterPattern == null) {
+            return "";
+        }
+
+        final String trimmed = filterPattern.trim();
+        final StringBuilder normalized = new StringBuilder(trimmed.length());
+        // Delimiter of the quoted or regex term being read, 0 outside of a term
+        char delimiter = 0;
+        boolean whitespace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            final char c = trimmed.charAt(i);
+            if (delimiter == 0 && Character.isWhitespace(c)) {
+                whitespace = true;
+                continue;
+            }
+            if (whitespace) {
+                normalized.append(' ');
+                whitespace = false;
+            }
+            if ((c == '"' || c == '%') && (i == 0 || trimmed.charAt(i - 1) != '\\')) {
+                if (delimiter == 0) {
+                    delimiter = c;
+                } else if (delimiter == c) {
+                    delimiter = 0;
+                }
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
     static software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter translateToSDK(final ResourceModel model) {
         List<software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation> mts = model
             .getMetricTransformations()
@@ -175,18 +256,51 @@ public class Translator {
     }
 
     static DescribeMetricFiltersRequest translateToReadRequest(final ResourceModel model) {
+        return translateToReadRequest(model, null);
+    }
+
+    static DescribeMetricFiltersRequest translateToReadRequest(final ResourceModel model, final String nextToken) {
         return DescribeMetricFiltersRequest
             .builder()
             .filterNamePrefix(model.getFilterName())
             .logGroupName(model.getLogGroupName())
-            .limit(1)
+            .limit(DESCRIBE_METRIC_FILTERS_MAX_LIMIT)
+            .nextToken(nextToken)
             .build();
     }
 
+    static software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter getMatchingMetricFilter(
+        final DescribeMetricFiltersResponse response,
+        final String filterName
+    ) {
+        return streamOfOrEmpty(response.metricFilters())
+            .filter(Objects::nonNull)
+            .filter(metricFilter -> filterName.equals(metricFilter.filterName()))
+            .findAny()
+            .orElse(null);
+    }
+
     static ResourceModel translateFromReadResponse(final DescribeMetricFiltersResponse awsResponse) {
         return awsResponse.metricFilters().stream().map(Translator::translateMetricFilter).findFirst().get();
     }
 
+    /**
+     * Builds the model of a metric filter that was just put, as a read would return it, without describing it again.
+     * The model goes through the same SDK translation as a read, which normalizes it the way the service stores it:
+     * <ul>
+     *     <li>a null filter pattern becomes "", the empty pattern the service returns as null</li>
+     *     <li>empty dimensions are dropped, as the service returns none</li>
+     *     <li>dimensions sharing a key collapse into one, as the service keeps them in a map</li>
+     * </ul>
+     * The service fills in no other property of the model, the creation time it adds is not part of it.
+     *
+     * @param model model of a metric filter put successfully
+     * @return the model a read of the metric filter returns
+     */
+    static ResourceModel translateFromWrite(final ResourceModel model) {
+        return translateMetricFilter(translateToSDK(model));
+    }
+
     static DeleteMetricFilterRequest translateToDeleteRequest(final ResourceModel model) {
         return DeleteMetricFilterRequest.builder().filterName(model.getFilterName()).logGroupName(model.getLogGroupName()).build();
     }
@@ -196,13 +310,20 @@ public class Translator {
     }
 
     static DescribeMetricFiltersRequest translateToListRequest(final String nextToken) {
-        return DescribeMetricFiltersRequest.builder().nextToken(nextToken).limit(50).build();
+        return DescribeMetricFiltersRequest.builder().nextToken(nextToken).limit(DESCRIBE_METRIC_FILTERS_MAX_LIMIT).build();
     }
 
     static List<ResourceModel> translateFromListResponse(final DescribeMetricFiltersResponse awsResponse) {
         return streamOfOrEmpty(awsResponse.metricFilters()).map(Translator::translateMetricFilter).collect(Collectors.toList());
     }
 
+    /**
+     * @return initial capacity of a hash based collection holding the given number of elements without resizing
+     */
+    private static int hashCapacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection).map(Collection::stream).orElseGet(Stream::empty);
     }
@@ -1,11 +1,15 @@
 package software.amazon.logs.metricfilter;
 
 import static software.amazon.logs.common.MetricsConstants.CFN;
+import static software.amazon.logs.common.MetricsConstants.PRE_CHECK;
 import static software.amazon.logs.common.MetricsConstants.SERVICE;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_CALL;
+import static software.amazon.logs.metricfilter.MetricsHelper.NO_OP_UPDATE_METRIC;
 import static software.amazon.logs.metricfilter.MetricsHelper.putMetricFilterRequestMetrics;
 
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
 import software.amazon.cloudformation.Action;
@@ -17,6 +21,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.CachingProxyClient;
 import software.amazon.logs.common.MetricsConstants;
 import software.amazon.logs.common.MetricsHelper;
 
@@ -60,12 +65,30 @@ public class UpdateHandler extends BaseHandlerStd {
         final String logGroupName = awsRequest.logGroupName();
 
         try {
-            boolean exists = exists(proxyClient, model, Action.UPDATE, logger, metrics);
-            if (!exists) {
+            final MetricFilter currentFilter = MetricsHelper.timePhase(
+                metrics,
+                PRE_CHECK,
+                // Not served from the describe cache, a put skipped on a stale describe would be lost
+                () -> describe(CachingProxyClient.bypass(proxyClient), model, Action.UPDATE, logger, metrics)
+            );
+            if (currentFilter == null) {
                 logger.log(String.format("[UPDATE][FAILED] Metric filter %s does not exist in log group %s", filterName, logGroupName));
                 throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
             }
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter);
+
+            final boolean unchanged = Translator.isUnchanged(model, currentFilter);
+            MetricsHelper.putMetric(metrics, NO_OP_UPDATE_METRIC, unchanged ? 1 : 0);
+            if (unchanged) {
+                logger.log(String.format("[UPDATE][SKIPPED] Metric filter %s in log group %s is already up to date", filterName, logGroupName));
+                return PutMetricFilterResponse.builder().build();
+            }
+
+            awsResponse =
+                MetricsHelper.timePhase(
+                    metrics,
+                    SERVICE_CALL,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter)
+                );
         } catch (final CloudWatchLogsException serviceException) {
             BaseHandlerException handlerException = Translator.translateException(serviceException);
 
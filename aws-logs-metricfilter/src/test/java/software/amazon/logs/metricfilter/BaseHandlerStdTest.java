@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -158,6 +159,49 @@ class BaseHandlerStdTest extends AbstractTestBase {
         assertEquals(shouldExist, handler.exists(proxyClient, model, Action.CREATE, logger, metrics));
     }
 
+    @Test
+    void exists_PaginatesUntilExactMatch() {
+        final ResourceModel model = ResourceModel.builder().filterName("filter-name").logGroupName("log-group-name").build();
+
+        final DescribeMetricFiltersResponse firstPage = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(
+                MetricFilter.builder().filterName("FILTER-NAME").logGroupName("log-group-name").build(),
+                MetricFilter.builder().filterName("Filter-Name").logGroupName("log-group-name").build()
+            )
+            .nextToken("token")
+            .build();
+        final DescribeMetricFiltersResponse secondPage = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(
+                MetricFilter.builder().filterName("filter-name").logGroupName("log-group-name").build(),
+                MetricFilter.builder().filterName("filter-name-suffix").logGroupName("log-group-name").build()
+            )
+            .nextToken("another-token")
+            .build();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class))).thenReturn(firstPage, secondPage);
+
+        assertThat(handler.describe(proxyClient, model, Action.CREATE, logger, metrics).filterName()).isEqualTo("filter-name");
+        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+    }
+
+    @Test
+    void exists_StopsPastFilterName() {
+        final ResourceModel model = ResourceModel.builder().filterName("filter-name").logGroupName("log-group-name").build();
+
+        final DescribeMetricFiltersResponse response = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(MetricFilter.builder().filterName("filter-name-suffix").logGroupName("log-group-name").build())
+            .nextToken("token")
+            .build();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class))).thenReturn(response);
+
+        assertThat(handler.exists(proxyClient, model, Action.CREATE, logger, metrics)).isFalse();
+        verify(proxyClient.client(), times(1)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+    }
+
     private static Stream<Arguments> exists() {
         return Stream.of(
             Arguments.of("filter-name-suffix", "filter-name", false),
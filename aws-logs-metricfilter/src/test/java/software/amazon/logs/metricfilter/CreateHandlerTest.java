@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -120,6 +121,51 @@ class CreateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    void handleRequest_Success_VerifyRead() {
+        final ResourceModel model = buildDefaultModel();
+
+        final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(Translator.translateToSDK(model))
+            .build();
+
+        // return no existing metrics for pre-create, then the created filter for the read-back
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+            .thenThrow(ResourceNotFoundException.class)
+            .thenReturn(describeResponse);
+
+        when(proxyClient.client().putMetricFilter(any(PutMetricFilterRequest.class))).thenReturn(PutMetricFilterResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final CreateHandler verifyingHandler = new CreateHandler(true);
+        final CallbackContext callbackContext = new CallbackContext();
+
+        ProgressEvent<ResourceModel, CallbackContext> response = verifyingHandler.handleRequest(
+            proxy,
+            request,
+            callbackContext,
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        response = verifyingHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger, metrics);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+
+        verify(proxyClient.client(), times(2)).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client()).putMetricFilter(any(PutMetricFilterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     void handleRequest_Success2() {
         final ResourceModel model = buildDefaultModel();
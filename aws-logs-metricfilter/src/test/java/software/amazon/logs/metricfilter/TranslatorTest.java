@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -92,6 +93,40 @@ public class TranslatorTest {
             .isEqualToComparingFieldByField(RPDK_METRIC_TRANSFORMATION);
     }
 
+    @Test
+    public void translate_packageModelWithoutDimensionsAndUnit() {
+        final MetricTransformation metricTransformation = MetricTransformation
+            .builder()
+            .defaultValue(1.0)
+            .metricName("MetricName")
+            .metricNamespace("MyNamespace")
+            .metricValue("Value")
+            .build();
+
+        final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation translated = Translator.translateMetricTransformationToSdk(
+            metricTransformation
+        );
+
+        assertThat(translated.hasDimensions()).isFalse();
+        assertThat(translated.unit()).isNull();
+        assertThat(translated.metricName()).isEqualTo("MetricName");
+    }
+
+    @Test
+    public void translate_SDKModelWithoutDimensionsAndUnit() {
+        final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation metricTransformation = METRIC_TRANSFORMATION
+            .toBuilder()
+            .dimensions(null)
+            .unit((String) null)
+            .build();
+
+        final MetricTransformation translated = Translator.translateMetricTransformationFromSdk(metricTransformation);
+
+        assertThat(translated.getDimensions()).isNull();
+        assertThat(translated.getUnit()).isNull();
+        assertThat(translated.getMetricName()).isEqualTo("MetricName");
+    }
+
     @Test
     public void translateToSDK() {
         assertThat(Translator.translateMetricTransformationToSDK(Collections.singletonList(RPDK_METRIC_TRANSFORMATION)))
@@ -109,6 +144,32 @@ public class TranslatorTest {
         assertThat(Translator.translateMetricTransformationFromSdk(Collections.emptyList())).isNull();
     }
 
+    @Test
+    public void translateFromWrite_keepsModel() {
+        assertThat(Translator.translateFromWrite(RESOURCE_MODEL)).isEqualTo(RESOURCE_MODEL);
+    }
+
+    @Test
+    public void translateFromWrite_normalizesModel_AsRead() {
+        final ResourceModel model = modelWithDimensions(Collections.emptySet());
+        model.setFilterPattern(null);
+
+        final ResourceModel translated = Translator.translateFromWrite(model);
+
+        assertThat(translated.getFilterPattern()).isEmpty();
+        assertThat(translated.getMetricTransformations().get(0).getDimensions()).isNull();
+        assertThat(translated.getMetricTransformations().get(0).getMetricName()).isEqualTo("MetricName");
+    }
+
+    @Test
+    public void translateFromWrite_collapsesDimensions_OfSameKey() {
+        final ResourceModel model = modelWithDimensions(
+            new HashSet<>(Arrays.asList(dimension1, Dimension.builder().key("key1").value("other").build()))
+        );
+
+        assertThat(Translator.translateFromWrite(model).getMetricTransformations().get(0).getDimensions()).hasSize(1);
+    }
+
     @Test
     public void extractMetricFilters_success() {
         final DescribeMetricFiltersResponse response = DescribeMetricFiltersResponse
@@ -159,6 +220,87 @@ public class TranslatorTest {
         assertThat(Translator.translateFromListResponse(response)).isEqualTo(expectedModels);
     }
 
+    @Test
+    public void isUnchanged_sameFilter() {
+        final MetricTransformation other = MetricTransformation
+            .builder()
+            .metricName("OtherMetric")
+            .metricNamespace("MyNamespace")
+            .metricValue("1")
+            .build();
+        final ResourceModel model = ResourceModel
+            .builder()
+            .logGroupName("LogGroup")
+            .filterName("Filter")
+            .filterPattern("[ip, user]  \"two  spaces\"")
+            .metricTransformations(Arrays.asList(RPDK_METRIC_TRANSFORMATION, other))
+            .build();
+        final MetricFilter metricFilter = MetricFilter
+            .builder()
+            .logGroupName("LogGroup")
+            .filterName("Filter")
+            .filterPattern(" [ip, user] \"two  spaces\" ")
+            .metricTransformations(Translator.translateToSDK(other), METRIC_TRANSFORMATION)
+            .build();
+
+        assertThat(Translator.isUnchanged(model, metricFilter)).isTrue();
+    }
+
+    @Test
+    public void isUnchanged_emptyFilterPattern() {
+        final ResourceModel model = buildModel("");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern(null).build())).isTrue();
+    }
+
+    @Test
+    public void isUnchanged_differentQuotedTerm() {
+        final ResourceModel model = buildModel("\"two  spaces\"");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern("\"two spaces\"").build())).isFalse();
+    }
+
+    @Test
+    public void isUnchanged_differentRegexTerm() {
+        final ResourceModel model = buildModel("%a  b%");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern("%a b%").build())).isFalse();
+    }
+
+    @Test
+    public void isUnchanged_sameRegexTerm() {
+        final ResourceModel model = buildModel("ERROR   %a  b%");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern("ERROR %a  b%").build())).isTrue();
+    }
+
+    @Test
+    public void isUnchanged_regexTermInQuotedTerm() {
+        final ResourceModel model = buildModel("\"100%\"  \"a  b\"");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern("\"100%\" \"a  b\"").build())).isTrue();
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().filterPattern("\"100%\" \"a b\"").build())).isFalse();
+    }
+
+    @Test
+    public void isUnchanged_differentDimensions() {
+        final ResourceModel model = buildModel("Pattern");
+        final MetricFilter metricFilter = METRIC_FILTER
+            .toBuilder()
+            .metricTransformations(METRIC_TRANSFORMATION.toBuilder().dimensions(Collections.singletonMap("key1", "value")).build())
+            .build();
+
+        assertThat(Translator.isUnchanged(model, metricFilter)).isFalse();
+    }
+
+    @Test
+    public void isUnchanged_missingMetricTransformation() {
+        final ResourceModel model = buildModel("Pattern");
+
+        assertThat(Translator.isUnchanged(model, METRIC_FILTER.toBuilder().metricTransformations(Collections.emptyList()).build()))
+            .isFalse();
+    }
+
     @Test
     public void translateToDeleteRequest() {
         final DeleteMetricFilterRequest expectedRequest = DeleteMetricFilterRequest
@@ -193,7 +335,7 @@ public class TranslatorTest {
             .builder()
             .logGroupName("LogGroup")
             .filterNamePrefix("FilterName")
-            .limit(1)
+            .limit(50)
             .build();
 
         final DescribeMetricFiltersRequest actualRequest = Translator.translateToReadRequest(RESOURCE_MODEL);
@@ -201,6 +343,36 @@ public class TranslatorTest {
         assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
     }
 
+    @Test
+    public void translateToReadRequest_WithNextToken() {
+        final DescribeMetricFiltersRequest expectedRequest = DescribeMetricFiltersRequest
+            .builder()
+            .logGroupName("LogGroup")
+            .filterNamePrefix("FilterName")
+            .limit(50)
+            .nextToken("token")
+            .build();
+
+        final DescribeMetricFiltersRequest actualRequest = Translator.translateToReadRequest(RESOURCE_MODEL, "token");
+
+        assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
+    }
+
+    @Test
+    public void getMatchingMetricFilter() {
+        final DescribeMetricFiltersResponse response = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(
+                MetricFilter.builder().filterName("FilterName").build(),
+                MetricFilter.builder().filterName("FilterName-2").build()
+            )
+            .build();
+
+        assertThat(Translator.getMatchingMetricFilter(response, "FilterName").filterName()).isEqualTo("FilterName");
+        assertThat(Translator.getMatchingMetricFilter(response, "FilterName-1")).isNull();
+        assertThat(Translator.getMatchingMetricFilter(DescribeMetricFiltersResponse.builder().build(), "FilterName")).isNull();
+    }
+
     @Test
     public void translateToListRequest() {
         final DescribeMetricFiltersRequest expectedRequest = DescribeMetricFiltersRequest.builder().limit(50).nextToken("token").build();
@@ -209,4 +381,33 @@ public class TranslatorTest {
 
         assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
     }
+
+    private static ResourceModel buildModel(final String filterPattern) {
+        return ResourceModel
+            .builder()
+            .logGroupName("LogGroup")
+            .filterName("Filter")
+            .filterPattern(filterPattern)
+            .metricTransformations(Collections.singletonList(RPDK_METRIC_TRANSFORMATION))
+            .build();
+    }
+
+    private static ResourceModel modelWithDimensions(final Set<Dimension> dimensions) {
+        final MetricTransformation metricTransformation = MetricTransformation
+            .builder()
+            .defaultValue(1.0)
+            .metricName("MetricName")
+            .metricNamespace("MyNamespace")
+            .metricValue("Value")
+            .dimensions(dimensions)
+            .unit("Count")
+            .build();
+        return ResourceModel
+            .builder()
+            .logGroupName("LogGroup")
+            .metricTransformations(Collections.singletonList(metricTransformation))
+            .filterPattern("Pattern")
+            .filterName("FilterName")
+            .build();
+    }
 }
@@ -5,13 +5,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -66,7 +69,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse
             .builder()
-            .metricFilters(Translator.translateToSDK(model))
+            .metricFilters(Translator.translateToSDK(model).toBuilder().filterPattern("[previous-pattern]").build())
             .build();
 
         when(proxyClient.client().putMetricFilter(ArgumentMatchers.any(PutMetricFilterRequest.class))).thenReturn(updateResponse);
@@ -100,6 +103,50 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(sdkClient);
     }
 
+    @Test
+    public void handleRequest_Unchanged_SkipsPut() {
+        final ResourceModel model = buildDefaultModel();
+
+        final List<MetricTransformation> reversedTransformations = new ArrayList<>(model.getMetricTransformations());
+        Collections.reverse(reversedTransformations);
+        final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse
+            .builder()
+            .metricFilters(
+                Translator
+                    .translateToSDK(model)
+                    .toBuilder()
+                    .filterPattern("  " + model.getFilterPattern() + " ")
+                    .metricTransformations(Translator.translateMetricTransformationToSDK(reversedTransformations))
+                    .build()
+            )
+            .build();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+            .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            request,
+            new CallbackContext(),
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxyClient.client()).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(proxyClient.client(), never()).putMetricFilter(any(PutMetricFilterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
     @Test
     public void handleRequest_ResourceNotFound() {
         final ResourceModel model = buildDefaultModel();
@@ -127,7 +174,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse
             .builder()
-            .metricFilters(Translator.translateToSDK(model))
+            .metricFilters(Translator.translateToSDK(model).toBuilder().filterPattern("[previous-pattern]").build())
             .build();
 
         when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
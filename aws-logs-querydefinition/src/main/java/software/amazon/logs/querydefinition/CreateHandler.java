@@ -13,15 +13,23 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-QueryDefinition::Create";
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -29,7 +37,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultFailureHandler(new CfnInvalidRequestException("There should be no querydefinition ID in create requests"), HandlerErrorCode.InvalidRequest);
         }
 
-        PutQueryDefinitionResponse putQueryDefinitionResponse = invokePutQueryDefinitionCall(proxy, model);
+        PutQueryDefinitionResponse putQueryDefinitionResponse = invokePutQueryDefinitionCall(proxy, model, metrics);
         model.setQueryDefinitionId(putQueryDefinitionResponse.queryDefinitionId());
 
         logger.log(String.format("%s [%s] successfully created.", ResourceModel.TYPE_NAME, model.getName()));
@@ -40,9 +48,9 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             .build();
     }
 
-    private PutQueryDefinitionResponse invokePutQueryDefinitionCall(AmazonWebServicesClientProxy proxy, ResourceModel model) {
+    private PutQueryDefinitionResponse invokePutQueryDefinitionCall(AmazonWebServicesClientProxy proxy, ResourceModel model, MetricsLogger metrics) {
         try {
-            return proxy.injectCredentialsAndInvokeV2(Translator.translateToCreateRequest(model), ClientBuilder.getLogsClient()::putQueryDefinition);
+            return invoke(proxy, Translator.translateToCreateRequest(model), ClientBuilder.getLogsClient()::putQueryDefinition, metrics);
         } catch (InvalidParameterException ex) {
             throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
         } catch (ResourceNotFoundException ex) {
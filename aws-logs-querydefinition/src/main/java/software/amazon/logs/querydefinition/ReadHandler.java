@@ -2,8 +2,8 @@ package software.amazon.logs.querydefinition;
 
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeQueryDefinitionsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
-import software.amazon.awssdk.services.cloudwatchlogs.model.QueryDefinition;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
@@ -12,43 +12,80 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.PaginationDriver;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.function.Supplier;
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-QueryDefinition::Read";
+
+    private final Supplier<PaginationDriver> paginationDrivers;
+
+    public ReadHandler() {
+        this.paginationDrivers = () -> PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT);
+    }
+
+    /**
+     * @param timeBudget time an invocation may spend paginating before failing,
+     *                   instead of the time left before the handler times out
+     */
+    ReadHandler(final Duration timeBudget) {
+        this.paginationDrivers = () -> new PaginationDriver(timeBudget);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
+        final PaginationDriver paginationDriver = paginationDrivers.get();
+        final PaginationDriver.Outcome outcome = paginationDriver.paginate(
+                null,
+                nextToken -> describeQueryDefinitions(proxy, model, nextToken, metrics),
+                DescribeQueryDefinitionsResponse::nextToken,
+                response -> response.queryDefinitions().stream()
+                        .anyMatch(qd -> qd.queryDefinitionId().equals(model.getQueryDefinitionId())));
+
+        if (outcome.isStopped()) {
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModel(model)
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
 
-        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeQueryDefinitionsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model, nextToken),
-                        ClientBuilder.getLogsClient()::describeQueryDefinitions);
-                nextToken = describeQueryDefinitionsResponse.nextToken();
-                Optional<QueryDefinition> queryDefinition = describeQueryDefinitionsResponse.queryDefinitions().stream()
-                        .filter(qd -> qd.queryDefinitionId().equals(model.getQueryDefinitionId()))
-                        .findAny();
-                if (queryDefinition.isPresent()) {
-                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModel(model)
-                            .status(OperationStatus.SUCCESS)
-                            .build();
-                }
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+        // Read may only end in SUCCESS or FAILED, and is not called back, so a scan running out of time cannot be resumed
+        if (outcome.isSuspended()) {
+            throw new CfnGeneralServiceException(String.format("DescribeQueryDefinitions for query definition %s, out of time after %d pages",
+                    model.getQueryDefinitionId(), paginationDriver.getPagesScanned()));
+        }
 
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
     }
+
+    private DescribeQueryDefinitionsResponse describeQueryDefinitions(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel model,
+        final String nextToken,
+        final MetricsLogger metrics) {
+
+        try {
+            return invoke(proxy, Translator.translateToReadRequest(model, nextToken),
+                    ClientBuilder.getLogsClient()::describeQueryDefinitions, metrics);
+        } catch (InvalidParameterException ex) {
+            throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+        } catch (ServiceUnavailableException ex) {
+            throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package software.amazon.logs.querydefinition;
+
+import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteQueryDefinitionRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteQueryDefinitionResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricKey;
+import software.amazon.logs.common.MetricsConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class BaseHandlerStdTest {
+    private static final DeleteQueryDefinitionRequest REQUEST = DeleteQueryDefinitionRequest.builder().queryDefinitionId("someId").build();
+
+    private AmazonWebServicesClientProxy proxy;
+    private MetricsLogger metrics;
+
+    @BeforeEach
+    public void setup() {
+        proxy = mock(AmazonWebServicesClientProxy.class);
+        metrics = mock(MetricsLogger.class);
+    }
+
+    @Test
+    public void invoke_PublishesServiceMetrics_OfResponse() {
+        final DeleteQueryDefinitionResponse response = (DeleteQueryDefinitionResponse) DeleteQueryDefinitionResponse.builder()
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                .build();
+        doReturn(response)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(REQUEST), ArgumentMatchers.any());
+
+        assertThat(BaseHandlerStd.invoke(proxy, REQUEST, ClientBuilder.getLogsClient()::deleteQueryDefinition, metrics)).isSameAs(response);
+
+        verify(metrics).putProperty(MetricsConstants.SERVICE_STATUS_CODE, 200);
+    }
+
+    @Test
+    public void invoke_PublishesServiceException_AndRethrowsIt() {
+        final ServiceUnavailableException exception = ServiceUnavailableException.builder().message("someError").build();
+        doThrow(exception)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(REQUEST), ArgumentMatchers.any());
+
+        assertThatThrownBy(() -> BaseHandlerStd.invoke(proxy, REQUEST, ClientBuilder.getLogsClient()::deleteQueryDefinition, metrics))
+                .isSameAs(exception);
+
+        verify(metrics).putProperty(MetricKey.name(MetricsConstants.SERVICE, MetricsConstants.EXCEPTION), "ServiceUnavailableException");
+        verify(metrics).putProperty(MetricKey.name(MetricsConstants.SERVICE, MetricsConstants.EXCEPTION_MESSAGE), "someError");
+        verify(metrics, never()).putProperty(ArgumentMatchers.eq(MetricsConstants.SERVICE_STATUS_CODE), ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,80 @@
+package software.amazon.logs.resourcepolicy;
+
+import static software.amazon.logs.common.MetricsConstants.SERVICE;
+
+import java.util.Objects;
+import java.util.function.Function;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsHelper;
+
+/**
+ * Publishes the metrics of every handler invocation: operation, CFN request and result, time, API calls and pages scanned,
+ * as well as the resource the request is for. Handlers make their service calls through
+ * {@link #invoke(AmazonWebServicesClientProxy, CloudWatchLogsRequest, Function, MetricsLogger)} to publish the response or the
+ * service exception alongside.
+ */
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+
+    static final String POLICY_NAME = "PolicyName";
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+
+        return MetricsHelper.instrument(request, getClass().getSimpleName(), metrics -> {
+            putResourceProperties(metrics, request.getDesiredResourceState());
+            return handleRequest(proxy, request, callbackContext, logger, metrics);
+        });
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger,
+        final MetricsLogger metrics);
+
+    /**
+     * Makes a service call, publishing the properties of its response, or of the service exception it failed with.
+     * The exception is rethrown as is, for the handler to translate.
+     *
+     * @param proxy   CloudFormation proxy used to inject credentials
+     * @param request CWL request object
+     * @param call    client method making the call
+     * @param metrics EMF MetricsLogger object of the invocation
+     * @return the response of the call
+     */
+    protected static <RequestT extends CloudWatchLogsRequest, ResponseT extends CloudWatchLogsResponse> ResponseT invoke(
+        final AmazonWebServicesClientProxy proxy,
+        final RequestT request,
+        final Function<RequestT, ResponseT> call,
+        final MetricsLogger metrics) {
+
+        final ResponseT response;
+        try {
+            response = proxy.injectCredentialsAndInvokeV2(request, call);
+        } catch (final CloudWatchLogsException ex) {
+            MetricsHelper.putExceptionProperty(metrics, ex, SERVICE);
+            throw ex;
+        }
+
+        MetricsHelper.putServiceMetrics(metrics, response);
+        return response;
+    }
+
+    private static void putResourceProperties(final MetricsLogger metrics, final ResourceModel model) {
+        if (Objects.isNull(model)) return;
+
+        MetricsHelper.putProperty(metrics, POLICY_NAME, model.getPolicyName());
+    }
+}
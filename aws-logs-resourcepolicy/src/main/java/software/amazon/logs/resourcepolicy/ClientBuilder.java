@@ -1,13 +1,21 @@
 package software.amazon.logs.resourcepolicy;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.logs.common.ClientRegistry;
+import software.amazon.logs.common.MetricsInterceptor;
+import software.amazon.logs.common.RetryStrategy;
 
 final class ClientBuilder {
 
+    private static final String RETRY_PROFILE = "ResourcePolicy";
+    private static final RetryStrategy RETRY_STRATEGY = RetryStrategy.FIXED;
+
+    private static final ClientOverrideConfiguration CONFIGURATION = ClientOverrideConfiguration.builder()
+        .addExecutionInterceptor(new MetricsInterceptor())
+        .build();
+
     static CloudWatchLogsClient getLogsClient() {
-        return CloudWatchLogsClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return ClientRegistry.getClient(RETRY_PROFILE, CONFIGURATION, RETRY_STRATEGY);
     }
 }
@@ -1,6 +1,16 @@
 package software.amazon.logs.resourcepolicy;
 
+import software.amazon.logs.common.MetricsProvider;
+
+import java.time.Duration;
+
 class Configuration extends BaseConfiguration {
+    // Timeout of the handler function in template.yml, within which paginated scans must return
+    static final Duration HANDLER_TIMEOUT = Duration.ofSeconds(180);
+
+    static {
+        MetricsProvider.initialize(ResourceModel.TYPE_NAME);
+    }
 
     public Configuration() {
         super("aws-logs-resourcepolicy.json");
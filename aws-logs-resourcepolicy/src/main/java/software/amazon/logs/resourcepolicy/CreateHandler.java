@@ -13,23 +13,54 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.PaginationDriver;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class CreateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-ResourcePolicy::Create";
+
+    private final Supplier<PaginationDriver> paginationDrivers;
+
+    public CreateHandler() {
+        this.paginationDrivers = () -> PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT);
+    }
+
+    /**
+     * @param timeBudget time an invocation may spend paginating before saving its cursor and returning IN_PROGRESS,
+     *                   instead of the time left before the handler times out
+     */
+    CreateHandler(final Duration timeBudget) {
+        this.paginationDrivers = () -> new PaginationDriver(timeBudget);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (ResourcePolicyHelper.exists(proxy, model)) {
+        final PaginationDriver.Outcome existence = ResourcePolicyHelper.exists(proxy, model,
+                paginationDrivers.get(), ResourcePolicyHelper.getCursor(callbackContext), metrics);
+        if (existence.isSuspended()) {
+            return ResourcePolicyHelper.resumeLater(model, existence);
+        }
+        if (existence.isStopped()) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
         }
 
-        PutResourcePolicyResponse putResourcePolicyResponse = invokePutResourcePolicyCall(proxy, model);
+        PutResourcePolicyResponse putResourcePolicyResponse = invokePutResourcePolicyCall(proxy, model, metrics);
 
         logger.log(String.format("%s [%s] successfully created.", ResourceModel.TYPE_NAME, model.getPolicyName()));
 
@@ -39,9 +70,9 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             .build();
     }
 
-    private PutResourcePolicyResponse invokePutResourcePolicyCall(AmazonWebServicesClientProxy proxy, ResourceModel model) {
+    private PutResourcePolicyResponse invokePutResourcePolicyCall(AmazonWebServicesClientProxy proxy, ResourceModel model, MetricsLogger metrics) {
         try {
-            return proxy.injectCredentialsAndInvokeV2(Translator.translateToPutRequest(model), ClientBuilder.getLogsClient()::putResourcePolicy);
+            return invoke(proxy, Translator.translateToPutRequest(model), ClientBuilder.getLogsClient()::putResourcePolicy, metrics);
         } catch (InvalidParameterException ex) {
             throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
         } catch (LimitExceededException ex) {
@@ -10,46 +10,80 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.PaginationDriver;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+public class ListHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-ResourcePolicy::List";
+
+    private final Supplier<PaginationDriver> paginationDrivers;
+
+    public ListHandler() {
+        this.paginationDrivers = () -> PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT);
+    }
+
+    /**
+     * @param timeBudget time an invocation may spend paginating before returning the models listed so far with a nextToken,
+     *                   instead of the time left before the handler times out
+     */
+    ListHandler(final Duration timeBudget) {
+        this.paginationDrivers = () -> new PaginationDriver(timeBudget);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
 
-        final List<ResourceModel> models = new ArrayList<>();
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
-        DescribeResourcePoliciesResponse describeResourcePoliciesResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeResourcePoliciesResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken),
-                        ClientBuilder.getLogsClient()::describeResourcePolicies);
-                nextToken = describeResourcePoliciesResponse.nextToken();
-                models.addAll(describeResourcePoliciesResponse.resourcePolicies().stream()
-                        .map(rp -> ResourceModel.builder()
-                                .policyName(rp.policyName())
-                                .policyDocument(rp.policyDocument())
-                                .build())
-                        .collect(Collectors.toList()));
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (final ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+        final List<ResourceModel> models = new ArrayList<>();
 
+        final PaginationDriver.Outcome outcome = paginationDrivers.get().paginate(
+                request.getNextToken(),
+                nextToken -> describeResourcePolicies(proxy, nextToken, metrics),
+                DescribeResourcePoliciesResponse::nextToken,
+                response -> {
+                    models.addAll(response.resourcePolicies().stream()
+                            .map(rp -> ResourceModel.builder()
+                                    .policyName(rp.policyName())
+                                    .policyDocument(rp.policyDocument())
+                                    .build())
+                            .collect(Collectors.toList()));
+                    return false;
+                });
 
+        // List results are already paginated for the caller, so a suspended scan resumes from the returned nextToken
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
+            .nextToken(outcome.getCursor())
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private DescribeResourcePoliciesResponse describeResourcePolicies(
+        final AmazonWebServicesClientProxy proxy,
+        final String nextToken,
+        final MetricsLogger metrics) {
+        try {
+            return invoke(proxy, Translator.translateToListRequest(nextToken),
+                    ClientBuilder.getLogsClient()::describeResourcePolicies, metrics);
+        } catch (InvalidParameterException ex) {
+            throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+        } catch (final ServiceUnavailableException ex) {
+            throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
+        }
+    }
 }
@@ -2,26 +2,42 @@ package software.amazon.logs.resourcepolicy;
 
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.PaginationDriver;
 
 public class ResourcePolicyHelper {
-    public static boolean exists(AmazonWebServicesClientProxy proxy, ResourceModel model) {
-        String nextToken = null;
-        do {
-            DescribeResourcePoliciesResponse response = proxy.injectCredentialsAndInvokeV2(
-                    Translator.translateToListRequest(nextToken),
-                    ClientBuilder.getLogsClient()::describeResourcePolicies);
-
-
-            boolean found = response.resourcePolicies().stream().anyMatch(
-                    policy -> (policy.policyName().equals(model.getPolicyName())));
-
-            if (found) {
-                return true;
-            }
-            nextToken = response.nextToken();
+    /**
+     * Scans the resource policies of the account for the policy of the model, within the time budget of the pagination driver
+     *
+     * @return STOPPED if the policy exists, EXHAUSTED if it does not, or SUSPENDED with the cursor to resume the scan from
+     */
+    public static PaginationDriver.Outcome exists(AmazonWebServicesClientProxy proxy, ResourceModel model,
+                                                  PaginationDriver paginationDriver, String cursor, MetricsLogger metrics) {
+        return paginationDriver.paginate(
+                cursor,
+                nextToken -> BaseHandlerStd.invoke(proxy,
+                        Translator.translateToListRequest(nextToken),
+                        ClientBuilder.getLogsClient()::describeResourcePolicies,
+                        metrics),
+                DescribeResourcePoliciesResponse::nextToken,
+                response -> response.resourcePolicies().stream().anyMatch(
+                        policy -> (policy.policyName().equals(model.getPolicyName()))));
+    }
 
-        } while (nextToken != null);
+    public static String getCursor(CallbackContext callbackContext) {
+        return callbackContext == null ? null : callbackContext.getNextToken();
+    }
 
-        return false;
+    // Saves the cursor of a suspended scan, so the handler resumes it on the next callback
+    public static ProgressEvent<ResourceModel, CallbackContext> resumeLater(ResourceModel model, PaginationDriver.Outcome outcome) {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setNextToken(outcome.getCursor());
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(model)
+                .callbackContext(callbackContext)
+                .status(OperationStatus.IN_PROGRESS)
+                .build();
     }
 }
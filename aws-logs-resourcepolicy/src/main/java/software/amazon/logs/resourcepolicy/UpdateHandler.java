@@ -11,15 +11,41 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.MetricsConstants;
+import software.amazon.logs.common.MetricsHelper;
+import software.amazon.logs.common.PaginationDriver;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class UpdateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-Logs-ResourcePolicy::Update";
+
+    private final Supplier<PaginationDriver> paginationDrivers;
+
+    public UpdateHandler() {
+        this.paginationDrivers = () -> PaginationDriver.forInvocation(Configuration.HANDLER_TIMEOUT);
+    }
+
+    /**
+     * @param timeBudget time an invocation may spend paginating before saving its cursor and returning IN_PROGRESS,
+     *                   instead of the time left before the handler times out
+     */
+    UpdateHandler(final Duration timeBudget) {
+        this.paginationDrivers = () -> new PaginationDriver(timeBudget);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
-        final Logger logger) {
+        final Logger logger,
+        final MetricsLogger metrics) {
+
+        MetricsHelper.putProperty(metrics, MetricsConstants.OPERATION, OPERATION);
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -31,12 +57,17 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultFailureHandler(new CfnInvalidRequestException(ResourceModel.TYPE_NAME, new NullPointerException()), HandlerErrorCode.InvalidRequest);
         }
 
-        if (!ResourcePolicyHelper.exists(proxy, model)) {
+        final PaginationDriver.Outcome existence = ResourcePolicyHelper.exists(proxy, model,
+                paginationDrivers.get(), ResourcePolicyHelper.getCursor(callbackContext), metrics);
+        if (existence.isSuspended()) {
+            return ResourcePolicyHelper.resumeLater(model, existence);
+        }
+        if (!existence.isStopped()) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
         }
 
         try {
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToPutRequest(model), ClientBuilder.getLogsClient()::putResourcePolicy);
+            invoke(proxy, Translator.translateToPutRequest(model), ClientBuilder.getLogsClient()::putResourcePolicy, metrics);
         } catch (final InvalidParameterException e) {
             throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, e);
         } catch (final ServiceUnavailableException e) {
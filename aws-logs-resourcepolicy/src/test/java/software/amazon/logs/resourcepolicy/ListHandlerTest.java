@@ -16,10 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,6 +97,64 @@ public class ListHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_TimeBudgetSpent_ReturnsNextToken() {
+        DescribeResourcePoliciesResponse describeResourcePoliciesResponse = DescribeResourcePoliciesResponse.builder()
+                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().build())).nextToken("SOME_TOKEN").build();
+        final ResourceModel model = ResourceModel.builder().build();
+        doReturn(describeResourcePoliciesResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler(Duration.ZERO).handleRequest(proxy, request, null, logger);
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("SOME_TOKEN");
+    }
+
+    @Test
+    public void handleRequest_ResumesFromReturnedNextToken() {
+        final DescribeResourcePoliciesResponse firstPage = DescribeResourcePoliciesResponse.builder()
+                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().policyName("policy-1").build()))
+                .nextToken("SOME_TOKEN")
+                .build();
+        final DescribeResourcePoliciesResponse secondPage = DescribeResourcePoliciesResponse.builder()
+                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().policyName("policy-2").build()))
+                .build();
+        doReturn(firstPage)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest(null)), ArgumentMatchers.any());
+        doReturn(secondPage)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToListRequest("SOME_TOKEN")), ArgumentMatchers.any());
+        final ListHandler suspendingHandler = new ListHandler(Duration.ZERO);
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = suspendingHandler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build(),
+                null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = suspendingHandler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(firstResponse.getNextToken())
+                        .build(),
+                null, logger);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+        assertThat(firstResponse.getNextToken()).isEqualTo("SOME_TOKEN");
+        assertThat(firstResponse.getResourceModels()).extracting(ResourceModel::getPolicyName).containsExactly("policy-1");
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getNextToken()).isNull();
+        assertThat(secondResponse.getResourceModels()).extracting(ResourceModel::getPolicyName).containsExactly("policy-2");
+    }
 
     @Test
     public void handleRequest_InvalidParameter() {
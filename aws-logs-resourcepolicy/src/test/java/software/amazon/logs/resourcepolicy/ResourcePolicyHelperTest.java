@@ -9,6 +9,10 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoli
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.PaginationDriver;
+
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
@@ -19,12 +23,16 @@ class ResourcePolicyHelperTest {
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
+    @Mock
+    private MetricsLogger metrics;
+
     private DescribeResourcePoliciesResponse describeResponse;
     private ResourceModel model;
 
     @BeforeEach
     public void setup() {
         proxy = mock(AmazonWebServicesClientProxy.class);
+        metrics = mock(MetricsLogger.class);
         model = ResourceModel.builder().policyName("myResourcePolicy").build();
     }
 
@@ -40,7 +48,7 @@ class ResourcePolicyHelperTest {
                         ArgumentMatchers.any()
                 );
 
-        boolean result = ResourcePolicyHelper.exists(proxy, model);
+        boolean result = ResourcePolicyHelper.exists(proxy, model, new PaginationDriver(Duration.ofSeconds(60)), null, metrics).isStopped();
         assertThat(result).isEqualTo(true);
     }
 
@@ -60,7 +68,7 @@ class ResourcePolicyHelperTest {
                         ArgumentMatchers.any()
                 );
 
-        boolean result = ResourcePolicyHelper.exists(proxy, model);
+        boolean result = ResourcePolicyHelper.exists(proxy, model, new PaginationDriver(Duration.ofSeconds(60)), null, metrics).isStopped();
         assertThat(result).isEqualTo(true);
     }
 
@@ -76,7 +84,24 @@ class ResourcePolicyHelperTest {
                         ArgumentMatchers.any()
                 );
 
-        boolean result = ResourcePolicyHelper.exists(proxy, model);
+        boolean result = ResourcePolicyHelper.exists(proxy, model, new PaginationDriver(Duration.ofSeconds(60)), null, metrics).isStopped();
         assertThat(result).isEqualTo(false);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void exists_Suspended_TimeBudgetSpent() {
+        ResourcePolicy differentPolicy = ResourcePolicy.builder().policyName("foo").build();
+        describeResponse = DescribeResourcePoliciesResponse.builder().resourcePolicies(differentPolicy).nextToken("bar").build();
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.isA(DescribeResourcePoliciesRequest.class),
+                        ArgumentMatchers.any()
+                );
+
+        PaginationDriver.Outcome outcome = ResourcePolicyHelper.exists(proxy, model, new PaginationDriver(Duration.ZERO), null, metrics);
+        assertThat(outcome.isSuspended()).isEqualTo(true);
+        assertThat(outcome.getCursor()).isEqualTo("bar");
+    }
+}
@@ -1,12 +1,13 @@
 package software.amazon.logs.subscriptionfilter;
 
-import static software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting.RETRYABLE_STATUS_CODES;
 import static software.amazon.logs.common.MetricsConstants.CFN;
+import static software.amazon.logs.common.MetricsConstants.PRE_CHECK;
 import static software.amazon.logs.common.MetricsConstants.SERVICE;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_CALL;
+import static software.amazon.logs.subscriptionfilter.MetricsHelper.NO_OP_UPDATE_METRIC;
 import static software.amazon.logs.subscriptionfilter.MetricsHelper.putSubscriptionFilterRequestMetrics;
 
 import java.time.Duration;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
@@ -14,28 +15,30 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscription
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Exponential;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.CachingProxyClient;
 import software.amazon.logs.common.MetricsHelper;
-import software.amazon.logs.common.MetricsProvider;
+import software.amazon.logs.common.RateLimitedProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
-    // Uluru level exponential back off strategy. Starting with min delay of 5s, until 30s is reached.
-    Exponential getBackOffStrategy() {
-        return Exponential.of().minDelay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(30)).build();
-    }
+    // Retries of a call: 1s, 2s, 4s, then 8s at most between attempts, jittered down to half, about 30s in total at worst
+    static final int MAX_RETRY_ATTEMPTS = 6;
 
-    private static final String ERROR_CODE_INVALID_PARAMETER_EXCEPTION = "InvalidParameterException";
+    Delay getBackOffStrategy() {
+        return new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), MAX_RETRY_ATTEMPTS);
+    }
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,28 +47,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger
     ) {
-        final long startTime = System.currentTimeMillis();
-        MetricsLogger metricsLogger = MetricsProvider.getMetrics();
-        MetricsHelper.putCFNRequestProperties(metricsLogger, request);
-
-        ProgressEvent<ResourceModel, CallbackContext> result;
-        try {
-            result =
-                handleRequest(
-                    proxy,
+        return MetricsHelper.instrument(request, getClass().getSimpleName(), metricsLogger ->
+            handleRequest(
+                proxy,
+                request,
+                callbackContext != null ? callbackContext : new CallbackContext(),
+                CachingProxyClient.wrap(
+                    RateLimitedProxyClient.wrap(proxy.newProxy(ClientBuilder::getClient), request, metricsLogger),
                     request,
-                    callbackContext != null ? callbackContext : new CallbackContext(),
-                    proxy.newProxy(ClientBuilder::getClient),
-                    logger,
-                    MetricsProvider.getMetrics()
-                );
-            MetricsHelper.putCFNProperties(metricsLogger, result);
-        } finally {
-            MetricsHelper.putTime(metricsLogger, startTime, System.currentTimeMillis());
-            MetricsHelper.flush(metricsLogger);
-        }
-
-        return result;
+                    metricsLogger
+                ),
+                logger,
+                metricsLogger
+            )
+        );
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -78,31 +73,41 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     );
 
     /**
-     * Checks if the given exception is a retryable exception.
+     * Checks if the given exception is a retryable exception, and publishes the class it falls in.
      *
      * @param exception The exception to be checked.
+     * @param metrics   The metrics logger.
      * @return true if the exception is retryable, false otherwise.
      */
-    boolean isRetryableException(final Exception exception) {
-        boolean retryableException =
-            exception instanceof AwsServiceException && RETRYABLE_STATUS_CODES.contains(((AwsServiceException) exception).statusCode());
-        boolean isInvalidParameterException =
-            exception instanceof AwsServiceException &&
-            ((AwsServiceException) exception).awsErrorDetails() != null &&
-            ((AwsServiceException) exception).awsErrorDetails().errorCode().equals(ERROR_CODE_INVALID_PARAMETER_EXCEPTION);
-
-        return retryableException || isInvalidParameterException;
+    boolean isRetryableException(final Exception exception, final MetricsLogger metrics) {
+        return classifyRetry(exception, metrics).isRetryable();
+    }
+
+    /**
+     * Classifies the given exception, and publishes the class it falls in.
+     *
+     * @param exception The exception to be classified.
+     * @param metrics   The metrics logger.
+     * @return the class of the exception.
+     */
+    RetryClass classifyRetry(final Exception exception, final MetricsLogger metrics) {
+        final RetryClass retryClass = RetryClass.classify(exception);
+        MetricsHelper.putMetric(metrics, retryClass.getMetricKey(), 1);
+
+        return retryClass;
     }
 
     /**
-     * Creates a Subscription Filter
+     * Creates or updates a Subscription Filter. On create, the existence check is skipped once it passed for the
+     * callback context. On update, the put is skipped when the subscription filter already matches the model.
      *
-     * @param model         The resource model representing the subscription filter.
-     * @param awsRequest    The request object used to create the subscription filter.
-     * @param proxyClient   The proxy client used to execute API calls.
-     * @param handlerAction The action being performed by the handler.
-     * @param logger        The logger.
-     * @param metrics       The metrics logger.
+     * @param model           The resource model representing the subscription filter.
+     * @param awsRequest      The request object used to create the subscription filter.
+     * @param proxyClient     The proxy client used to execute API calls.
+     * @param callbackContext The callback context object.
+     * @param handlerAction   The action being performed by the handler.
+     * @param logger          The logger.
+     * @param metrics         The metrics logger.
      * @return The response object containing the created subscription filter.
      * @throws BaseHandlerException If an exception occurs while creating the resource.
      */
@@ -110,6 +115,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model,
         final PutSubscriptionFilterRequest awsRequest,
         final ProxyClient<CloudWatchLogsClient> proxyClient,
+        final CallbackContext callbackContext,
         final Action handlerAction,
         final Logger logger,
         final MetricsLogger metrics
@@ -121,24 +127,54 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String logGroupName = awsRequest.logGroupName();
 
         try {
-            boolean exists = exists(proxyClient, model, handlerAction, logger, metrics);
-
-            if (exists && handlerAction.equals(Action.CREATE)) {
-                logger.log(
-                    String.format("[CREATE][FAILED] SubscriptionFilter %s already exists in log group %s", filterName, logGroupName)
+            if (handlerAction.equals(Action.CREATE) && !callbackContext.isPreCreateCheckDone()) {
+                // The existence check and the no-op check decide on the put, so they are not served from the describe cache
+                boolean exists = MetricsHelper.timePhase(
+                    metrics,
+                    PRE_CHECK,
+                    () -> exists(CachingProxyClient.bypass(proxyClient), model, handlerAction, logger, metrics)
                 );
-                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+
+                if (exists) {
+                    logger.log(
+                        String.format("[CREATE][FAILED] SubscriptionFilter %s already exists in log group %s", filterName, logGroupName)
+                    );
+                    throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+                }
+                callbackContext.setPreCreateCheckDone(true);
             }
 
-            if (!exists && handlerAction.equals(Action.UPDATE)) {
-                logger.log(
-                    String.format("[UPDATE][FAILED] SubscriptionFilter %s does not exist in log group %s", filterName, logGroupName)
+            if (handlerAction.equals(Action.UPDATE)) {
+                final SubscriptionFilter currentFilter = MetricsHelper.timePhase(
+                    metrics,
+                    PRE_CHECK,
+                    () -> describe(CachingProxyClient.bypass(proxyClient), model, handlerAction, logger, metrics)
                 );
-                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+
+                if (currentFilter == null) {
+                    logger.log(
+                        String.format("[UPDATE][FAILED] SubscriptionFilter %s does not exist in log group %s", filterName, logGroupName)
+                    );
+                    throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+                }
+
+                final boolean unchanged = Translator.isUnchanged(model, currentFilter);
+                MetricsHelper.putMetric(metrics, NO_OP_UPDATE_METRIC, unchanged ? 1 : 0);
+                if (unchanged) {
+                    logger.log(
+                        String.format("[UPDATE][SKIPPED] SubscriptionFilter %s in log group %s is already up to date", filterName, logGroupName)
+                    );
+                    return PutSubscriptionFilterResponse.builder().build();
+                }
             }
 
             // Create/Update Subscription Filter
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putSubscriptionFilter);
+            awsResponse =
+                MetricsHelper.timePhase(
+                    metrics,
+                    SERVICE_CALL,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putSubscriptionFilter)
+                );
         } catch (final CloudWatchLogsException serviceException) {
             final BaseHandlerException handlerException = Translator.translateException(serviceException);
 
@@ -160,7 +196,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
 
         MetricsHelper.putServiceMetrics(metrics, awsResponse);
-        logger.log(String.format("[CREATE][SUCCESS] Created new subscription filter %s in log group %s", filterName, logGroupName));
+        logger.log(
+            String.format("[%s][SUCCESS] Put subscription filter %s in log group %s", handlerAction.name(), filterName, logGroupName)
+        );
 
         return awsResponse;
     }
@@ -179,19 +217,37 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Action handlerAction,
         final Logger logger,
         final MetricsLogger metrics
+    ) {
+        return describe(proxyClient, model, handlerAction, logger, metrics) != null;
+    }
+
+    /**
+     * Describes the Subscription Filter as currently stored by the service.
+     *
+     * @param proxyClient The proxy client used to execute API calls.
+     * @param model       The resource model representing the subscription filter.
+     * @return The subscription filter, or null if it does not exist.
+     * @throws BaseHandlerException If an exception occurs while describing the resource.
+     */
+    protected SubscriptionFilter describe(
+        final ProxyClient<CloudWatchLogsClient> proxyClient,
+        final ResourceModel model,
+        final Action handlerAction,
+        final Logger logger,
+        final MetricsLogger metrics
     ) {
         final DescribeSubscriptionFiltersRequest translateToReadRequest = Translator.translateToReadRequest(model);
         final DescribeSubscriptionFiltersResponse response;
 
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(translateToReadRequest, proxyClient.client()::describeSubscriptionFilters);
-            if (response == null || !response.hasSubscriptionFilters() || response.subscriptionFilters().isEmpty()) {
-                return false;
+            if (response == null || !response.hasSubscriptionFilters()) {
+                return null;
             }
 
-            return model.getFilterName().equals(response.subscriptionFilters().get(0).filterName());
+            return Translator.getMatchingSubscriptionFilter(response, model.getFilterName());
         } catch (final ResourceNotFoundException ignored) {
-            return false;
+            return null;
         } catch (final CloudWatchLogsException serviceException) {
             BaseHandlerException handlerException = Translator.translateException(serviceException);
 
@@ -6,4 +6,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {}
+public class CallbackContext extends StdCallbackContext {
+
+    // Set once the pre-create describe found no subscription filter, so retried puts skip it
+    private boolean preCreateCheckDone;
+
+    // Puts that failed while the destination or its permissions were propagating, across invocations of the handler
+    private int stabilizationAttempts;
+}
@@ -0,0 +1,70 @@
+package software.amazon.logs.subscriptionfilter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+import lombok.NonNull;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Exponential back off between retries of a call, capped and jittered.
+ *
+ * The bound of the n-th delay is the base delay doubled n - 1 times, capped at the max delay, and the delay is drawn between
+ * half the bound and the bound. Handlers of a stack retrying against the same destination so spread out instead of retrying
+ * in lockstep. Delays are whole seconds, and the delay is only derived from the attempt, so the back off carries on where it
+ * left off when the handler is invoked again with the attempts of its callback context.
+ */
+final class CappedExponentialBackoff implements Delay {
+
+    private final long baseDelaySeconds;
+    private final long maxDelaySeconds;
+    private final int maxAttempts;
+    // Draws the jitter added to half the bound, between 0 and its argument
+    private final LongUnaryOperator jitter;
+
+    /**
+     * @param baseDelay   bound of the first delay, at least a second
+     * @param maxDelay    cap of the bound
+     * @param maxAttempts number of retries, after which the back off gives up
+     */
+    CappedExponentialBackoff(final Duration baseDelay, final Duration maxDelay, final int maxAttempts) {
+        this(baseDelay, maxDelay, maxAttempts, bound -> ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    CappedExponentialBackoff(
+        @NonNull final Duration baseDelay,
+        @NonNull final Duration maxDelay,
+        final int maxAttempts,
+        @NonNull final LongUnaryOperator jitter
+    ) {
+        if (baseDelay.getSeconds() < 1 || maxDelay.compareTo(baseDelay) < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException(
+                String.format("Invalid back off [baseDelay=%s, maxDelay=%s, maxAttempts=%s]", baseDelay, maxDelay, maxAttempts)
+            );
+        }
+        this.baseDelaySeconds = baseDelay.getSeconds();
+        this.maxDelaySeconds = maxDelay.getSeconds();
+        this.maxAttempts = maxAttempts;
+        this.jitter = jitter;
+    }
+
+    /**
+     * @param attempt number of the retry, starting at 1
+     * @return the delay before the retry, or {@link Duration#ZERO} to give up
+     */
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (attempt > maxAttempts) {
+            return Duration.ZERO;
+        }
+
+        long bound = baseDelaySeconds;
+        for (int i = 1; i < attempt && bound < maxDelaySeconds; i++) {
+            bound *= 2;
+        }
+        bound = Math.min(bound, maxDelaySeconds);
+
+        final long half = bound / 2;
+        return Duration.ofSeconds(bound - half + jitter.applyAsLong(half));
+    }
+}
@@ -1,5 +1,9 @@
 package software.amazon.logs.subscriptionfilter;
 
+import static software.amazon.logs.common.MetricsConstants.READ_BACK;
+import static software.amazon.logs.subscriptionfilter.MetricsHelper.STABILIZATION_ATTEMPTS_METRIC;
+import static software.amazon.logs.subscriptionfilter.MetricsHelper.STABILIZATION_ATTEMPT_METRIC;
+
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.cloudformation.Action;
@@ -59,13 +63,60 @@ public class CreateHandler extends BaseHandlerStd {
                     .initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                     .translateToServiceRequest(Translator::translateToCreateRequest)
                     .backoffDelay(getBackOffStrategy())
-                    .makeServiceCall((filterRequest, client) -> putResource(model, filterRequest, client, Action.CREATE, logger, metrics))
-                    .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception))
-                    .done(_createResponse ->
-                        ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).resourceModel(model).build()
+                    .makeServiceCall((filterRequest, client) -> putResource(model, filterRequest, client, callbackContext, Action.CREATE, logger, metrics))
+                    .retryErrorFilter((_request, exception, _proxyClient, _model, context) ->
+                        isStabilizing(exception, model, context, logger, metrics)
                     )
+                    .done(_createResponse -> {
+                        MetricsHelper.putMetric(metrics, STABILIZATION_ATTEMPTS_METRIC, callbackContext.getStabilizationAttempts());
+                        return ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).resourceModel(model).build();
+                    })
             )
-            .then(progress -> getReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger, metrics));
+            .then(progress ->
+                MetricsHelper.timePhase(
+                    metrics,
+                    READ_BACK,
+                    () -> getReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger, metrics)
+                )
+            );
+    }
+
+    /**
+     * Decides whether a failed put is retried. A put failing while the destination or its permissions are propagating is
+     * retried like any retryable failure, within the attempts of {@link #getBackOffStrategy()}, which the call graph keeps
+     * in the callback context across invocations. Every such attempt is also counted in the callback context, only to be
+     * published and logged.
+     *
+     * @param exception       The exception the put failed with.
+     * @param model           The resource model representing the subscription filter.
+     * @param callbackContext The callback context object.
+     * @param logger          The logger.
+     * @param metrics         The metrics logger.
+     * @return true if the put is retried, false otherwise.
+     */
+    private boolean isStabilizing(
+        final Exception exception,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final Logger logger,
+        final MetricsLogger metrics
+    ) {
+        final RetryClass retryClass = classifyRetry(exception, metrics);
+        if (retryClass == RetryClass.PROPAGATING) {
+            final int attempt = callbackContext.getStabilizationAttempts() + 1;
+            callbackContext.setStabilizationAttempts(attempt);
+            MetricsHelper.putMetric(metrics, STABILIZATION_ATTEMPT_METRIC, 1);
+            logger.log(
+                String.format(
+                    "[CREATE][STABILIZING] Destination of SubscriptionFilter %s is not ready yet, stabilization attempt %d: %s",
+                    model.getFilterName(),
+                    attempt,
+                    exception.getMessage()
+                )
+            );
+        }
+
+        return retryClass.isRetryable();
     }
 
     /**
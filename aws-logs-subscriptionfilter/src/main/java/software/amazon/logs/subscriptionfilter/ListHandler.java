@@ -23,6 +23,20 @@ public class ListHandler extends BaseHandlerStd {
 
     private static final String CALL_GRAPH = "AWS-Logs-SubscriptionFilter::List";
 
+    private final int pageSize;
+
+    public ListHandler() {
+        this(Translator.RESPONSE_LIMIT);
+    }
+
+    /**
+     * @param pageSize maximum number of subscription filters returned per page, at most {@link Translator#RESPONSE_LIMIT}
+     */
+    ListHandler(final int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -38,15 +52,15 @@ public class ListHandler extends BaseHandlerStd {
 
         return proxy
             .initiate(CALL_GRAPH, proxyClient, model, callbackContext)
-            .translateToServiceRequest(cbModel -> Translator.translateToListRequest(cbModel, nextToken))
+            .translateToServiceRequest(cbModel -> Translator.translateToListRequest(cbModel, nextToken, pageSize))
             .backoffDelay(getBackOffStrategy())
             .makeServiceCall((listRequest, _proxyClient) -> listResource(listRequest, proxyClient, logger, metrics))
-            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception))
+            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception, metrics))
             .done(describeResponse ->
                 ProgressEvent
                     .<ResourceModel, CallbackContext>builder()
                     .resourceModels(Translator.translateFromListResponse(describeResponse))
-                    .nextToken(nextToken)
+                    .nextToken(describeResponse.nextToken())
                     .status(OperationStatus.SUCCESS)
                     .build()
             );
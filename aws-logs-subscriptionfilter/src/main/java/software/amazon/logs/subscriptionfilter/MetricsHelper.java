@@ -8,6 +8,8 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteSubscriptionFi
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterRequest;
 import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+import software.amazon.logs.common.MetricKey;
 
 /**
  * Helper class specific to SubscriptionFilter resource to be used with an EMF MetricsLogger object to publish metrics and properties
@@ -18,6 +20,9 @@ public class MetricsHelper {
     public static final String FILTER_NAME = "FilterName";
     public static final String FILTER_NAME_PREFIX = "FilterNamePrefix";
     public static final String LOG_GROUP_NAME = "LogGroupName";
+    public static final MetricKey NO_OP_UPDATE_METRIC = MetricKey.of("NoOpUpdate", Unit.COUNT);
+    public static final MetricKey STABILIZATION_ATTEMPT_METRIC = MetricKey.of("Stabilization", "Attempt", Unit.COUNT);
+    public static final MetricKey STABILIZATION_ATTEMPTS_METRIC = MetricKey.of("Stabilization", "Attempts", Unit.COUNT);
 
     private MetricsHelper() {}
 
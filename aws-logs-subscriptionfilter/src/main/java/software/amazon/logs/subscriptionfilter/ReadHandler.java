@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -40,7 +41,7 @@ public class ReadHandler extends BaseHandlerStd {
             .makeServiceCall((cloudWatchLogsRequest, sdkProxyClient) ->
                 readResource(cloudWatchLogsRequest, sdkProxyClient, model, logger, metrics)
             )
-            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception))
+            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception, metrics))
             .done(awsResponse ->
                 ProgressEvent
                     .<ResourceModel, CallbackContext>builder()
@@ -71,7 +72,7 @@ public class ReadHandler extends BaseHandlerStd {
         DescribeSubscriptionFiltersResponse awsResponse;
         putSubscriptionFilterRequestMetrics(metrics, awsRequest);
 
-        final String filterNamePrefix = awsRequest.filterNamePrefix();
+        final String filterName = model.getFilterName();
         final String logGroupName = model.getLogGroupName();
 
         try {
@@ -81,8 +82,8 @@ public class ReadHandler extends BaseHandlerStd {
 
             logger.log(
                 String.format(
-                    "[READ][EXCEPTION] Encountered exception with subscription filter prefix %s in log group %s: %s: %s",
-                    filterNamePrefix,
+                    "[READ][EXCEPTION] Encountered exception with subscription filter %s in log group %s: %s: %s",
+                    filterName,
                     logGroupName,
                     serviceException.getClass().getSimpleName(),
                     serviceException.getMessage()
@@ -95,22 +96,17 @@ public class ReadHandler extends BaseHandlerStd {
             throw handlerException;
         }
 
-        if (awsResponse != null && awsResponse.subscriptionFilters().isEmpty()) {
-            logger.log(
-                String.format(
-                    "[READ][FAILED] No subscription filters found with prefix %s exists in log group %s",
-                    filterNamePrefix,
-                    logGroupName
-                )
-            );
+        final SubscriptionFilter subscriptionFilter = awsResponse != null
+            ? Translator.getMatchingSubscriptionFilter(awsResponse, filterName)
+            : null;
+        if (subscriptionFilter == null) {
+            logger.log(String.format("[READ][FAILED] No subscription filter %s exists in log group %s", filterName, logGroupName));
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, Objects.toString(model.getPrimaryIdentifier()));
         }
 
         MetricsHelper.putServiceMetrics(metrics, awsResponse);
-        logger.log(
-            String.format("[READ][SUCCESS] Found subscription filters with prefix %s in log group %s", filterNamePrefix, logGroupName)
-        );
+        logger.log(String.format("[READ][SUCCESS] Found subscription filter %s in log group %s", filterName, logGroupName));
 
-        return awsResponse;
+        return awsResponse.toBuilder().subscriptionFilters(subscriptionFilter).build();
     }
 }
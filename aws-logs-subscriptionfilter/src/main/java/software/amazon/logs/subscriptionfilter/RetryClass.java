@@ -0,0 +1,104 @@
+package software.amazon.logs.subscriptionfilter;
+
+import static software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting.RETRYABLE_STATUS_CODES;
+
+import java.util.Arrays;
+import java.util.List;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+import software.amazon.logs.common.MetricKey;
+
+/**
+ * Classes of the exceptions a subscription filter call fails with, deciding whether the call is retried.
+ *
+ * PutSubscriptionFilter sends a test message to the destination, and reports an InvalidParameterException when it cannot be
+ * delivered. Right after the destination, its role or its policy was created in the same stack, that failure is transient and
+ * goes away once the change has propagated. Any other InvalidParameterException is invalid input and fails fast.
+ */
+enum RetryClass {
+    /** Server error with a status code the SDK treats as retryable */
+    SERVER_ERROR("ServerError", true),
+    /** Test message that could not be delivered while the destination or its permissions are propagating */
+    PROPAGATING("Propagating", true),
+    /** Any other failure, including invalid input */
+    NON_RETRYABLE("NonRetryable", false);
+
+    private static final String ERROR_CODE_INVALID_PARAMETER_EXCEPTION = "InvalidParameterException";
+
+    // Messages of the InvalidParameterException raised when the test message cannot be delivered to the destination
+    private static final List<String> PROPAGATION_MESSAGES = Arrays.asList(
+        "Could not deliver test message to specified",
+        "Could not execute the lambda function",
+        "Check if the destination is valid",
+        "Make sure you have given CloudWatch Logs permission"
+    );
+
+    private final MetricKey metricKey;
+    private final boolean retryable;
+
+    RetryClass(final String metricName, final boolean retryable) {
+        this.metricKey = MetricKey.of("Retry", metricName, Unit.COUNT);
+        this.retryable = retryable;
+    }
+
+    MetricKey getMetricKey() {
+        return metricKey;
+    }
+
+    boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * Classifies the exception thrown by a service call, or the service exception a handler exception was translated from
+     *
+     * @param exception The exception thrown by a service call.
+     * @return the class of the exception
+     */
+    static RetryClass classify(final Exception exception) {
+        final AwsServiceException serviceException = serviceExceptionOf(exception);
+        if (serviceException == null) {
+            return NON_RETRYABLE;
+        }
+
+        if (RETRYABLE_STATUS_CODES.contains(serviceException.statusCode())) {
+            return SERVER_ERROR;
+        }
+
+        if (isInvalidParameter(serviceException) && isPropagating(errorMessageOf(serviceException))) {
+            return PROPAGATING;
+        }
+        return NON_RETRYABLE;
+    }
+
+    private static AwsServiceException serviceExceptionOf(final Exception exception) {
+        if (exception instanceof AwsServiceException) {
+            return (AwsServiceException) exception;
+        }
+        if (exception instanceof BaseHandlerException && exception.getCause() instanceof AwsServiceException) {
+            return (AwsServiceException) exception.getCause();
+        }
+        return null;
+    }
+
+    private static boolean isInvalidParameter(final AwsServiceException serviceException) {
+        return (
+            serviceException instanceof InvalidParameterException ||
+            (serviceException.awsErrorDetails() != null &&
+                ERROR_CODE_INVALID_PARAMETER_EXCEPTION.equals(serviceException.awsErrorDetails().errorCode()))
+        );
+    }
+
+    private static String errorMessageOf(final AwsServiceException serviceException) {
+        if (serviceException.awsErrorDetails() != null && serviceException.awsErrorDetails().errorMessage() != null) {
+            return serviceException.awsErrorDetails().errorMessage();
+        }
+        return serviceException.getMessage();
+    }
+
+    private static boolean isPropagating(final String errorMessage) {
+        return errorMessage != null && PROPAGATION_MESSAGES.stream().anyMatch(errorMessage::contains);
+    }
+}
@@ -2,6 +2,7 @@ package software.amazon.logs.subscriptionfilter;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.AccessDeniedExceptio
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteSubscriptionFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Distribution;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LimitExceededException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.OperationAbortedException;
@@ -27,7 +29,8 @@ import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededExceptio
 
 public class Translator {
 
-    private static final int RESPONSE_LIMIT = 50;
+    // Largest page DescribeSubscriptionFilters accepts
+    static final int RESPONSE_LIMIT = 50;
 
     public static BaseHandlerException translateException(final AwsServiceException e) {
         if (e instanceof InvalidParameterException) {
@@ -72,6 +75,29 @@ public class Translator {
             .build();
     }
 
+    /**
+     * Checks whether a put of the model would leave the described subscription filter as it is. A missing filter pattern
+     * or distribution is compared as the value the service stores for it.
+     *
+     * @param model              desired state of the subscription filter
+     * @param subscriptionFilter subscription filter with the same name, as described by the service
+     * @return true if the destination, role, filter pattern and distribution already match
+     */
+    static boolean isUnchanged(
+        final ResourceModel model,
+        final software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter subscriptionFilter
+    ) {
+        return (
+            Objects.equals(model.getDestinationArn(), subscriptionFilter.destinationArn()) &&
+            Objects.equals(model.getRoleArn(), subscriptionFilter.roleArn()) &&
+            Objects.equals(Objects.toString(model.getFilterPattern(), ""), Objects.toString(subscriptionFilter.filterPattern(), "")) &&
+            Objects.equals(
+                Objects.toString(model.getDistribution(), Distribution.BY_LOG_STREAM.toString()),
+                Objects.toString(subscriptionFilter.distributionAsString(), Distribution.BY_LOG_STREAM.toString())
+            )
+        );
+    }
+
     static PutSubscriptionFilterRequest translateToCreateRequest(final ResourceModel model) {
         return PutSubscriptionFilterRequest
             .builder()
@@ -92,6 +118,16 @@ public class Translator {
             .build();
     }
 
+    static software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter getMatchingSubscriptionFilter(
+        final DescribeSubscriptionFiltersResponse response,
+        final String filterName
+    ) {
+        return streamOfOrEmpty(response.subscriptionFilters())
+            .filter(subscriptionFilter -> filterName.equals(subscriptionFilter.filterName()))
+            .findFirst()
+            .orElse(null);
+    }
+
     static ResourceModel translateFromReadResponse(final DescribeSubscriptionFiltersResponse awsResponse) {
         return awsResponse.subscriptionFilters().stream().map(Translator::translateSubscriptionFilter).findFirst().get();
     }
@@ -121,11 +157,18 @@ public class Translator {
     }
 
     static DescribeSubscriptionFiltersRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        return translateToListRequest(model, nextToken, RESPONSE_LIMIT);
+    }
+
+    /**
+     * @param pageSize number of subscription filters per page, clamped to the range the service accepts
+     */
+    static DescribeSubscriptionFiltersRequest translateToListRequest(final ResourceModel model, final String nextToken, final int pageSize) {
         return DescribeSubscriptionFiltersRequest
             .builder()
             .logGroupName(model.getLogGroupName())
             .nextToken(nextToken)
-            .limit(RESPONSE_LIMIT)
+            .limit(Math.max(1, Math.min(pageSize, RESPONSE_LIMIT)))
             .build();
     }
 
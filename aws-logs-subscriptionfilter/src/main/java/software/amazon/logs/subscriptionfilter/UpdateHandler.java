@@ -36,9 +36,9 @@ public class UpdateHandler extends BaseHandlerStd {
             .translateToServiceRequest(Translator::translateToUpdateRequest)
             .backoffDelay(getBackOffStrategy())
             .makeServiceCall((putSubscriptionFilterRequest, client) ->
-                putResource(model, putSubscriptionFilterRequest, client, Action.UPDATE, logger, metrics)
+                putResource(model, putSubscriptionFilterRequest, client, callbackContext, Action.UPDATE, logger, metrics)
             )
-            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception))
+            .retryErrorFilter((_request, exception, _proxyClient, _model, _context) -> isRetryableException(exception, metrics))
             .success();
     }
 }
@@ -0,0 +1,59 @@
+package software.amazon.logs.subscriptionfilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CappedExponentialBackoffTest {
+
+    @Test
+    void nextDelay_DoublesUpToMaxDelay() {
+        final CappedExponentialBackoff backoff = new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), 6, bound -> bound);
+
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(backoff.nextDelay(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(backoff.nextDelay(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(backoff.nextDelay(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(backoff.nextDelay(6)).isEqualTo(Duration.ofSeconds(8));
+    }
+
+    @Test
+    void nextDelay_JittersDownToHalfTheBound() {
+        final CappedExponentialBackoff backoff = new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), 6, bound -> 0);
+
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(backoff.nextDelay(2)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(backoff.nextDelay(3)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(backoff.nextDelay(5)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void nextDelay_StaysWithinBounds() {
+        final CappedExponentialBackoff backoff = new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), 6);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofSeconds(1));
+            assertThat(backoff.nextDelay(3)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+            assertThat(backoff.nextDelay(6)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+        }
+    }
+
+    @Test
+    void nextDelay_GivesUpAfterMaxAttempts() {
+        final CappedExponentialBackoff backoff = new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), 6);
+
+        assertThat(backoff.nextDelay(7)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void constructor_RejectsInvalidBounds() {
+        assertThatThrownBy(() -> new CappedExponentialBackoff(Duration.ofMillis(500), Duration.ofSeconds(8), 6))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CappedExponentialBackoff(Duration.ofSeconds(8), Duration.ofSeconds(1), 6))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CappedExponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(8), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -21,18 +22,22 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.OperationAbortedException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -191,6 +196,149 @@ class CreateHandlerTest extends AbstractTestBase {
             .isInstanceOf(CfnResourceConflictException.class);
     }
 
+    @Test
+    void handleRequest_Should_FailFast_When_PutParameterIsInvalid() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class)))
+            .thenThrow(ResourceNotFoundException.class);
+
+        when(proxyClient.client().putSubscriptionFilter(any(PutSubscriptionFilterRequest.class)))
+            .thenThrow(
+                InvalidParameterException
+                    .builder()
+                    .awsErrorDetails(
+                        AwsErrorDetails.builder().errorCode("InvalidParameterException").errorMessage("Invalid filter pattern").build()
+                    )
+                    .statusCode(400)
+                    .build()
+            );
+
+        final ResourceHandlerRequest<ResourceModel> request = buildResourceHandlerRequest(model);
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger, metrics))
+            .isInstanceOf(CfnInvalidRequestException.class);
+        verify(proxyClient.client(), times(1)).describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class));
+        verify(proxyClient.client(), times(1)).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+    }
+
+    @Test
+    void handleRequest_Should_RetryPut_When_DestinationIsPropagating() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class)))
+            .thenThrow(ResourceNotFoundException.class)
+            .thenReturn(DescribeSubscriptionFiltersResponse.builder().subscriptionFilters(Translator.translateToSDK(model)).build());
+
+        when(proxyClient.client().putSubscriptionFilter(any(PutSubscriptionFilterRequest.class)))
+            .thenThrow(propagatingException())
+            .thenReturn(PutSubscriptionFilterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            buildResourceHandlerRequest(model),
+            callbackContext,
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getStabilizationAttempts()).isEqualTo(1);
+        verify(proxyClient.client(), times(1)).describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class));
+        verify(proxyClient.client(), times(2)).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+    }
+
+    @Test
+    void handleRequest_Should_Fail_When_BackOffIsExhausted() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().putSubscriptionFilter(any(PutSubscriptionFilterRequest.class))).thenThrow(propagatingException());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPreCreateCheckDone(true);
+
+        // The back off gives up right away, whatever the stabilization attempts counted so far
+        final CreateHandler exhaustedHandler = new CreateHandler() {
+            @Override
+            Delay getBackOffStrategy() {
+                return attempt -> Duration.ZERO;
+            }
+        };
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = exhaustedHandler.handleRequest(
+            proxy,
+            buildResourceHandlerRequest(model),
+            callbackContext,
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(callbackContext.getStabilizationAttempts()).isEqualTo(1);
+        verify(proxyClient.client(), times(1)).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+    }
+
+    @Test
+    void handleRequest_Should_RetryPut_When_StabilizationAttemptsExceedMaxRetryAttempts() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class)))
+            .thenReturn(DescribeSubscriptionFiltersResponse.builder().subscriptionFilters(Translator.translateToSDK(model)).build());
+
+        when(proxyClient.client().putSubscriptionFilter(any(PutSubscriptionFilterRequest.class)))
+            .thenThrow(propagatingException())
+            .thenReturn(PutSubscriptionFilterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPreCreateCheckDone(true);
+        callbackContext.setStabilizationAttempts(BaseHandlerStd.MAX_RETRY_ATTEMPTS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            buildResourceHandlerRequest(model),
+            callbackContext,
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        // Only the back off bounds the retries, the stabilization attempts are only published
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getStabilizationAttempts()).isEqualTo(BaseHandlerStd.MAX_RETRY_ATTEMPTS + 1);
+        verify(proxyClient.client(), times(1)).describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class));
+        verify(proxyClient.client(), times(2)).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+    }
+
+    @Test
+    void handleRequest_PreCreateCheckDone_SkipsDescribe() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().putSubscriptionFilter(any(PutSubscriptionFilterRequest.class)))
+            .thenReturn(PutSubscriptionFilterResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPreCreateCheckDone(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            buildResourceHandlerRequest(model),
+            callbackContext,
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class));
+        verify(proxyClient.client()).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+    }
+
     @ParameterizedTest
     @MethodSource("alreadyExists")
     void handleRequest_Should_ReturnFailureProgressEvent_When_SubscriptionFilterExists(
@@ -289,6 +437,20 @@ class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    private static InvalidParameterException propagatingException() {
+        return InvalidParameterException
+            .builder()
+            .awsErrorDetails(
+                AwsErrorDetails
+                    .builder()
+                    .errorCode("InvalidParameterException")
+                    .errorMessage("Could not deliver test message to specified destination. Check if the destination is valid.")
+                    .build()
+            )
+            .statusCode(400)
+            .build();
+    }
+
     private ResourceHandlerRequest<ResourceModel> buildResourceHandlerRequest(final ResourceModel model) {
         return ResourceHandlerRequest
             .<ResourceModel>builder()
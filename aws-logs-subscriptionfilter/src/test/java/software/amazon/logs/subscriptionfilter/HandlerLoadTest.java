@@ -0,0 +1,168 @@
+package software.amazon.logs.subscriptionfilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.logs.common.FakeCloudWatchLogsClient;
+
+/**
+ * Runs the handlers concurrently against the in-memory CloudWatch Logs client, and reports their throughput and tail latency
+ */
+class HandlerLoadTest extends AbstractTestBase {
+
+    private static final int THREADS = 16;
+    private static final int INVOCATIONS = 200;
+
+    private final FakeCloudWatchLogsClient sdkClient = FakeCloudWatchLogsClient
+        .builder()
+        .latency(Duration.ofMillis(5))
+        .latencyJitter(Duration.ofMillis(10))
+        .build();
+
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < INVOCATIONS; i++) {
+            sdkClient.createLogGroup(CreateLogGroupRequest.builder().logGroupName(logGroupName(i)).build());
+        }
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void handleRequest_CreateReadDelete_UnderConcurrentLoad() throws Exception {
+        final List<ProgressEvent<ResourceModel, CallbackContext>> created = run("Create", i -> invoke(new CreateHandler(), i));
+        final List<ProgressEvent<ResourceModel, CallbackContext>> read = run("Read", i -> invoke(new ReadHandler(), i));
+        final List<ProgressEvent<ResourceModel, CallbackContext>> deleted = run("Delete", i -> invoke(new DeleteHandler(), i));
+
+        assertThat(created).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS));
+        assertThat(read).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS));
+        assertThat(read.get(0).getResourceModel().getFilterName()).isEqualTo(filterName(0));
+        assertThat(deleted).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS));
+        assertThat(sdkClient.getCallCount("PutSubscriptionFilter")).isEqualTo(INVOCATIONS);
+        assertThat(sdkClient.getCallCount("DeleteSubscriptionFilter")).isEqualTo(INVOCATIONS);
+        // The existence check and the read back of every create, and every read
+        assertThat(sdkClient.getCallCount("DescribeSubscriptionFilters")).isEqualTo(3L * INVOCATIONS);
+    }
+
+    @Test
+    void handleRequest_CreateAndRead_RetryServerErrors_UnderConcurrentLoad() throws Exception {
+        sdkClient.setServerErrorRate(0.05);
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> created = run("Create", i -> invoke(new CreateHandler(), i));
+        final List<ProgressEvent<ResourceModel, CallbackContext>> read = run("Read", i -> invoke(new ReadHandler(), i));
+
+        assertThat(created).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS));
+        assertThat(read).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS));
+        assertThat(sdkClient.getCallCount("PutSubscriptionFilter")).isGreaterThanOrEqualTo(INVOCATIONS);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(final BaseHandlerStd handler, final int i) {
+        final ResourceModel model = ResourceModel
+            .builder()
+            .filterName(filterName(i))
+            .destinationArn("destination-arn")
+            .filterPattern("[pattern]")
+            .logGroupName(logGroupName(i))
+            .roleArn("role-arn")
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        return handler.handleRequest(
+            proxy,
+            request,
+            new CallbackContext(),
+            MOCK_PROXY(proxy, sdkClient),
+            logger,
+            mock(MetricsLogger.class)
+        );
+    }
+
+    /**
+     * Runs one invocation per log group on the thread pool, and logs the throughput and latency percentiles of the invocations
+     */
+    private List<ProgressEvent<ResourceModel, CallbackContext>> run(
+        final String operation,
+        final IntFunction<ProgressEvent<ResourceModel, CallbackContext>> invocation
+    ) throws Exception {
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> futures = new ArrayList<>(INVOCATIONS);
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<>(INVOCATIONS));
+
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            final int index = i;
+            futures.add(
+                executor.submit(() -> {
+                    final long invocationStartNanos = System.nanoTime();
+                    try {
+                        return invocation.apply(index);
+                    } finally {
+                        latencies.add(System.nanoTime() - invocationStartNanos);
+                    }
+                })
+            );
+        }
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> events = new ArrayList<>(INVOCATIONS);
+        for (final Future<ProgressEvent<ResourceModel, CallbackContext>> future : futures) {
+            events.add(future.get(60, TimeUnit.SECONDS));
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        final List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        logger.log(
+            String.format(
+                "[LOAD] %s: %d invocations on %d threads, %.1f invocations per second, p50 %d ms, p99 %d ms, max %d ms",
+                operation,
+                INVOCATIONS,
+                THREADS,
+                INVOCATIONS * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.50)),
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.99)),
+                TimeUnit.NANOSECONDS.toMillis(sorted.get(sorted.size() - 1))
+            )
+        );
+        return events;
+    }
+
+    private static long percentile(final List<Long> sorted, final double percentile) {
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    private static String logGroupName(final int i) {
+        return String.format("log-group-%03d", i);
+    }
+
+    private static String filterName(final int i) {
+        return String.format("filter-name-%03d", i);
+    }
+}
@@ -2,12 +2,14 @@ package software.amazon.logs.subscriptionfilter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -80,4 +82,41 @@ class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    void handleRequest_ReturnsNextTokenOfResponse() {
+        final ResourceModel model = buildDefaultModel();
+        final DescribeSubscriptionFiltersResponse describeResponse = DescribeSubscriptionFiltersResponse
+            .builder()
+            .subscriptionFilters(Translator.translateToSDK(model))
+            .nextToken("next-token")
+            .build();
+
+        when(proxyClient.client().describeSubscriptionFilters(ArgumentMatchers.any(DescribeSubscriptionFiltersRequest.class)))
+            .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .nextToken("token")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(1).handleRequest(
+            proxy,
+            request,
+            new CallbackContext(),
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("next-token");
+
+        final ArgumentCaptor<DescribeSubscriptionFiltersRequest> requestCaptor = ArgumentCaptor.forClass(DescribeSubscriptionFiltersRequest.class);
+        verify(proxyClient.client()).describeSubscriptionFilters(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().nextToken()).isEqualTo("token");
+        assertThat(requestCaptor.getValue().limit()).isEqualTo(1);
+    }
 }
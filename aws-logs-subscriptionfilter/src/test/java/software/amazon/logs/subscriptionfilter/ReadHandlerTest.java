@@ -119,6 +119,27 @@ class ReadHandlerTest extends AbstractTestBase {
             .isInstanceOf(CfnNotFoundException.class);
     }
 
+    @Test
+    void handleRequest_OnlyOtherFilterExists() {
+        final ResourceModel model = buildDefaultModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final DescribeSubscriptionFiltersResponse describeResponse = DescribeSubscriptionFiltersResponse
+            .builder()
+            .subscriptionFilters(Translator.translateToSDK(buildDefaultModel("other-filter-name")))
+            .build();
+
+        when(proxyClient.client().describeSubscriptionFilters(ArgumentMatchers.any(DescribeSubscriptionFiltersRequest.class)))
+            .thenReturn(describeResponse);
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger, metrics))
+            .isInstanceOf(CfnNotFoundException.class);
+    }
+
     @Test
     void handleRequest_ServiceLimitExceptionThrown() {
         final ResourceModel model = buildDefaultModel();
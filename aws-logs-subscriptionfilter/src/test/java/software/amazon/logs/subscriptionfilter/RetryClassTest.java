@@ -0,0 +1,65 @@
+package software.amazon.logs.subscriptionfilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+
+class RetryClassTest {
+
+    @ParameterizedTest
+    @MethodSource
+    void classify(final String errorMessage, final RetryClass expectedClass) {
+        final AwsServiceException exception = InvalidParameterException
+            .builder()
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterException").errorMessage(errorMessage).build())
+            .statusCode(400)
+            .build();
+
+        assertThat(RetryClass.classify(exception)).isEqualTo(expectedClass);
+        assertThat(RetryClass.classify(Translator.translateException(exception))).isEqualTo(expectedClass);
+    }
+
+    private static Stream<Arguments> classify() {
+        return Stream.of(
+            Arguments.of(
+                "Could not deliver test message to specified Kinesis stream. Check if the given kinesis stream is in ACTIVE state.",
+                RetryClass.PROPAGATING
+            ),
+            Arguments.of(
+                "Could not deliver test message to specified destination. Check if the destination is valid.",
+                RetryClass.PROPAGATING
+            ),
+            Arguments.of(
+                "Could not execute the lambda function. Make sure you have given CloudWatch Logs permission to execute your function.",
+                RetryClass.PROPAGATING
+            ),
+            Arguments.of("Invalid filter pattern", RetryClass.NON_RETRYABLE),
+            Arguments.of(null, RetryClass.NON_RETRYABLE)
+        );
+    }
+
+    @Test
+    void classify_ServerError() {
+        final AwsServiceException exception = ServiceUnavailableException.builder().statusCode(503).build();
+
+        assertThat(RetryClass.classify(exception)).isEqualTo(RetryClass.SERVER_ERROR);
+        assertThat(RetryClass.classify(Translator.translateException(exception))).isEqualTo(RetryClass.SERVER_ERROR);
+    }
+
+    @Test
+    void classify_NonRetryable() {
+        assertThat(RetryClass.classify(CloudWatchLogsException.builder().statusCode(400).build())).isEqualTo(RetryClass.NON_RETRYABLE);
+        assertThat(RetryClass.classify(new CfnAlreadyExistsException("type", "id"))).isEqualTo(RetryClass.NON_RETRYABLE);
+        assertThat(RetryClass.classify(new IllegalStateException())).isEqualTo(RetryClass.NON_RETRYABLE);
+    }
+}
@@ -159,6 +159,40 @@ class TranslatorTest {
         assertThat(actualRequest).isEqualToComparingFieldByField(expectedRequest);
     }
 
+    @Test
+    void translateToListRequest_ClampsPageSize() {
+        assertThat(Translator.translateToListRequest(RESOURCE_MODEL, null, 2).limit()).isEqualTo(2);
+        assertThat(Translator.translateToListRequest(RESOURCE_MODEL, null, 0).limit()).isEqualTo(1);
+        assertThat(Translator.translateToListRequest(RESOURCE_MODEL, null, 500).limit()).isEqualTo(50);
+    }
+
+    @Test
+    void isUnchanged() {
+        final SubscriptionFilter subscriptionFilter = Translator.translateToSDK(RESOURCE_MODEL);
+
+        assertThat(Translator.isUnchanged(RESOURCE_MODEL, subscriptionFilter)).isTrue();
+        assertThat(Translator.isUnchanged(RESOURCE_MODEL, subscriptionFilter.toBuilder().destinationArn("other-arn").build())).isFalse();
+        assertThat(Translator.isUnchanged(RESOURCE_MODEL, subscriptionFilter.toBuilder().roleArn(null).build())).isFalse();
+        assertThat(Translator.isUnchanged(RESOURCE_MODEL, subscriptionFilter.toBuilder().filterPattern("[other]").build())).isFalse();
+        assertThat(Translator.isUnchanged(RESOURCE_MODEL, subscriptionFilter.toBuilder().distribution(Distribution.BY_LOG_STREAM).build()))
+            .isFalse();
+    }
+
+    @Test
+    void isUnchanged_DefaultsOfMissingProperties() {
+        final ResourceModel model = ResourceModel.builder().filterName("FilterName").logGroupName("LogGroup").destinationArn("arn").build();
+        final SubscriptionFilter subscriptionFilter = SubscriptionFilter
+            .builder()
+            .filterName("FilterName")
+            .logGroupName("LogGroup")
+            .destinationArn("arn")
+            .filterPattern("")
+            .distribution(Distribution.BY_LOG_STREAM)
+            .build();
+
+        assertThat(Translator.isUnchanged(model, subscriptionFilter)).isTrue();
+    }
+
     @Test
     void testExceptionTranslation() {
         final Exception e = new Exception();
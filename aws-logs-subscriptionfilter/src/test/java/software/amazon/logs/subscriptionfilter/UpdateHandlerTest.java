@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -22,6 +23,7 @@ import software.amazon.awssdk.services.cloudwatchevents.model.InternalException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Distribution;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterResponse;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -65,7 +67,7 @@ class UpdateHandlerTest extends AbstractTestBase {
 
         final DescribeSubscriptionFiltersResponse describeResponse = DescribeSubscriptionFiltersResponse
             .builder()
-            .subscriptionFilters(Translator.translateToSDK(model))
+            .subscriptionFilters(Translator.translateToSDK(model).toBuilder().destinationArn("previous-destination-arn").build())
             .build();
 
         when(proxyClient.client().putSubscriptionFilter(ArgumentMatchers.any(PutSubscriptionFilterRequest.class)))
@@ -127,7 +129,7 @@ class UpdateHandlerTest extends AbstractTestBase {
 
         final DescribeSubscriptionFiltersResponse describeResponse = DescribeSubscriptionFiltersResponse
             .builder()
-            .subscriptionFilters(Translator.translateToSDK(model))
+            .subscriptionFilters(Translator.translateToSDK(model).toBuilder().destinationArn("previous-destination-arn").build())
             .build();
 
         when(proxyClient.client().describeSubscriptionFilters(ArgumentMatchers.any(DescribeSubscriptionFiltersRequest.class)))
@@ -159,4 +161,39 @@ class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(sdkClient);
     }
+
+    @Test
+    void handleRequest_Unchanged_SkipsPut() {
+        final ResourceModel model = buildDefaultModel();
+
+        final DescribeSubscriptionFiltersResponse describeResponse = DescribeSubscriptionFiltersResponse
+            .builder()
+            .subscriptionFilters(Translator.translateToSDK(model).toBuilder().distribution(Distribution.BY_LOG_STREAM).build())
+            .build();
+
+        when(proxyClient.client().describeSubscriptionFilters(ArgumentMatchers.any(DescribeSubscriptionFiltersRequest.class)))
+            .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            request,
+            new CallbackContext(),
+            proxyClient,
+            logger,
+            metrics
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxyClient.client()).describeSubscriptionFilters(any(DescribeSubscriptionFiltersRequest.class));
+        verify(proxyClient.client(), never()).putSubscriptionFilter(any(PutSubscriptionFilterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
 }
@@ -0,0 +1,154 @@
+package software.amazon.logs.benchmarks;
+
+import static software.amazon.logs.common.MetricsConstants.CFN;
+import static software.amazon.logs.common.MetricsConstants.PRE_CHECK;
+import static software.amazon.logs.common.MetricsConstants.SERVICE;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.environment.EnvironmentProvider;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+import software.amazon.logs.common.MetricsHelper;
+
+/**
+ * Metrics published by a handler invocation through {@link MetricsHelper}, compared with the previous implementation that formatted
+ * every metric and property name on each call and rendered the full stack trace of every exception ({@code baseline*} benchmarks).
+ *
+ * Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsHelperBenchmark {
+
+    private static final int STACK_DEPTH = 100;
+
+    private EnvironmentProvider environmentProvider;
+    private ResourceHandlerRequest<Object> request;
+    private ProgressEvent<Object, Object> success;
+    private ProgressEvent<Object, Object> failure;
+    private Exception serviceException;
+    private Exception handlerException;
+
+    @Setup
+    public void setup() {
+        environmentProvider = new EnvironmentProvider();
+        request = ResourceHandlerRequest
+            .builder()
+            .awsAccountId("123456789012")
+            .clientRequestToken("b6c0e8a4-43b1-4a4e-9a3c-4d2f8d6e1c2a")
+            .stackId("arn:aws:cloudformation:us-east-1:123456789012:stack/benchmark/b6c0e8a4")
+            .build();
+        success = ProgressEvent.builder().status(OperationStatus.SUCCESS).resourceModel(new Object()).build();
+        failure = ProgressEvent.failed(null, null, HandlerErrorCode.Throttling, "Rate exceeded");
+        serviceException = deepException(STACK_DEPTH);
+        handlerException = new RuntimeException("Rate exceeded", serviceException);
+    }
+
+    @Benchmark
+    public MetricsLogger successfulInvocation() {
+        final MetricsLogger metrics = new MetricsLogger(environmentProvider);
+        MetricsHelper.putCFNRequestProperties(metrics, request);
+        MetricsHelper.timePhase(metrics, PRE_CHECK, () -> Boolean.TRUE);
+        MetricsHelper.putCFNProperties(metrics, success);
+        MetricsHelper.putTime(metrics, 0L, 42L);
+        return metrics;
+    }
+
+    @Benchmark
+    public MetricsLogger baselineSuccessfulInvocation() {
+        final MetricsLogger metrics = new MetricsLogger(environmentProvider);
+        Baseline.putCFNRequestProperties(metrics, request);
+        Baseline.timePhase(metrics, PRE_CHECK);
+        Baseline.putCFNProperties(metrics, success);
+        Baseline.putTime(metrics, 0L, 42L);
+        return metrics;
+    }
+
+    @Benchmark
+    public MetricsLogger failedInvocation() {
+        final MetricsLogger metrics = new MetricsLogger(environmentProvider);
+        MetricsHelper.putCFNRequestProperties(metrics, request);
+        MetricsHelper.putExceptionProperty(metrics, serviceException, SERVICE);
+        MetricsHelper.putExceptionProperty(metrics, handlerException, CFN);
+        MetricsHelper.putCFNProperties(metrics, failure);
+        MetricsHelper.putTime(metrics, 0L, 42L);
+        return metrics;
+    }
+
+    @Benchmark
+    public MetricsLogger baselineFailedInvocation() {
+        final MetricsLogger metrics = new MetricsLogger(environmentProvider);
+        Baseline.putCFNRequestProperties(metrics, request);
+        Baseline.putExceptionProperty(metrics, serviceException, SERVICE);
+        Baseline.putExceptionProperty(metrics, handlerException, CFN);
+        Baseline.putCFNProperties(metrics, failure);
+        Baseline.putTime(metrics, 0L, 42L);
+        return metrics;
+    }
+
+    private static Exception deepException(final int depth) {
+        if (depth == 0) {
+            return new IllegalStateException("Rate exceeded");
+        }
+        return deepException(depth - 1);
+    }
+
+    /**
+     * Previous MetricsHelper implementation, kept as the baseline of the benchmark
+     */
+    private static final class Baseline {
+
+        static void putCFNRequestProperties(final MetricsLogger metrics, final ResourceHandlerRequest<?> request) {
+            MetricsHelper.putProperty(metrics, "AwsAccountId", request.getAwsAccountId());
+            MetricsHelper.putProperty(metrics, String.format("%s.RequestToken", CFN), request.getClientRequestToken());
+            MetricsHelper.putProperty(metrics, String.format("%s.StackId", CFN), request.getStackId());
+        }
+
+        static void putCFNProperties(final MetricsLogger metrics, final ProgressEvent<?, ?> result) {
+            MetricsHelper.putMetric(metrics, String.format("%s.Success", CFN), result.isSuccess() ? 1 : 0);
+            MetricsHelper.putProperty(metrics, String.format("%s.Message", CFN), result.getMessage());
+            MetricsHelper.putProperty(metrics, String.format("%s.Result", CFN), result.getResult());
+            if (result.getErrorCode() != null) {
+                MetricsHelper.putProperty(metrics, String.format("%s.ErrorCode", CFN), result.getErrorCode().name());
+            }
+            if (result.getStatus() != null) {
+                MetricsHelper.putProperty(metrics, String.format("%s.Status", CFN), result.getStatus().name());
+            }
+        }
+
+        static void putExceptionProperty(final MetricsLogger metrics, final Exception exception, final String prefix) {
+            final String stackTrace = ExceptionUtils.getStackTrace(exception);
+            MetricsHelper.putProperty(metrics, String.format("%s.Exception", prefix), exception.getClass().getSimpleName());
+            MetricsHelper.putProperty(metrics, String.format("%s.ExceptionMessage", prefix), exception.getMessage());
+            MetricsHelper.putProperty(metrics, String.format("%s.StackTrace", prefix), stackTrace);
+        }
+
+        static void timePhase(final MetricsLogger metrics, final String phase) {
+            final long startTime = System.currentTimeMillis();
+            MetricsHelper.putMetric(metrics, String.format("%s.Time", phase), System.currentTimeMillis() - startTime, Unit.MILLISECONDS);
+        }
+
+        static void putTime(final MetricsLogger metrics, final long startTime, final long endTime) {
+            MetricsHelper.putMetric(metrics, "Time", endTime - startTime, Unit.MILLISECONDS);
+        }
+    }
+}
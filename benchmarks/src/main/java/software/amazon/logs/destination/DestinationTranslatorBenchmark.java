@@ -0,0 +1,61 @@
+package software.amazon.logs.destination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeDestinationsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Destination;
+
+/**
+ * Translation of a DescribeDestinations page into resource models, by page size
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DestinationTranslatorBenchmark {
+
+    private static final String ACCESS_POLICY =
+        "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"111122223333\"}," +
+        "\"Action\":\"logs:PutSubscriptionFilter\",\"Resource\":\"arn:aws:logs:us-east-1:123456789012:destination:benchmark\"}]}";
+
+    @Param({ "1", "10", "50" })
+    private int destinationCount;
+
+    private DescribeDestinationsResponse response;
+
+    @Setup
+    public void setup() {
+        final List<Destination> destinations = new ArrayList<>(destinationCount);
+        for (int i = 0; i < destinationCount; i++) {
+            destinations.add(
+                Destination
+                    .builder()
+                    .destinationName("destination-" + i)
+                    .accessPolicy(ACCESS_POLICY)
+                    .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                    .targetArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark-" + i)
+                    .build()
+            );
+        }
+        response = DescribeDestinationsResponse.builder().destinations(destinations).build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(response);
+    }
+}
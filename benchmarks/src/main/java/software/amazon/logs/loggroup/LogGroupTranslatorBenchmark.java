@@ -0,0 +1,71 @@
+package software.amazon.logs.loggroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+
+/**
+ * Translation of a full DescribeLogGroups page and its tags into resource models, by number of tags per log group
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogGroupTranslatorBenchmark {
+
+    private static final int LOG_GROUP_COUNT = Translator.DESCRIBE_LOG_GROUPS_MAX_LIMIT;
+
+    // A log group has at most 50 tags
+    @Param({ "0", "10", "50" })
+    private int tagCount;
+
+    private DescribeLogGroupsResponse response;
+    private Map<String, ListTagsLogGroupResponse> tagResponses;
+
+    @Setup
+    public void setup() {
+        final List<LogGroup> logGroups = new ArrayList<>(LOG_GROUP_COUNT);
+        tagResponses = new HashMap<>();
+        for (int i = 0; i < LOG_GROUP_COUNT; i++) {
+            final String logGroupName = "/benchmark/log-group-" + i;
+            logGroups.add(
+                LogGroup
+                    .builder()
+                    .arn("arn:aws:logs:us-east-1:123456789012:log-group:" + logGroupName + ":*")
+                    .logGroupName(logGroupName)
+                    .retentionInDays(30)
+                    .build()
+            );
+
+            final Map<String, String> tags = new HashMap<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.put("tag-key-" + j, "tag-value-" + j);
+            }
+            tagResponses.put(logGroupName, ListTagsLogGroupResponse.builder().tags(tags).build());
+        }
+        response = DescribeLogGroupsResponse.builder().logGroups(logGroups).build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateForList() {
+        return Translator.translateForList(response, tagResponses);
+    }
+}
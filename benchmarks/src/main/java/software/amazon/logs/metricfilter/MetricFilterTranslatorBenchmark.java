@@ -0,0 +1,152 @@
+package software.amazon.logs.metricfilter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Translation of a metric transformation between the resource model and the SDK model, by number of dimensions, compared with
+ * the previous implementation that copied the SDK model for dimensions and unit ({@code baseline*} benchmarks).
+ *
+ * Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricFilterTranslatorBenchmark {
+
+    // A metric transformation has at most 3 dimensions
+    @Param({ "0", "1", "2", "3" })
+    private int dimensionCount;
+
+    private MetricTransformation modelTransformation;
+    private software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation sdkTransformation;
+
+    @Setup
+    public void setup() {
+        final Set<Dimension> dimensions = new HashSet<>();
+        final Map<String, String> sdkDimensions = new HashMap<>();
+        for (int i = 0; i < dimensionCount; i++) {
+            dimensions.add(Dimension.builder().key("Dimension" + i).value("$.field" + i).build());
+            sdkDimensions.put("Dimension" + i, "$.field" + i);
+        }
+
+        modelTransformation = MetricTransformation
+            .builder()
+            .metricName("ErrorCount")
+            .metricNamespace("Benchmark")
+            .metricValue("1")
+            .defaultValue(0.0)
+            .unit("Count")
+            .dimensions(dimensionCount == 0 ? null : dimensions)
+            .build();
+
+        final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation.Builder sdkBuilder = software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation
+            .builder()
+            .metricName("ErrorCount")
+            .metricNamespace("Benchmark")
+            .metricValue("1")
+            .defaultValue(0.0)
+            .unit("Count");
+        if (dimensionCount > 0) {
+            sdkBuilder.dimensions(sdkDimensions);
+        }
+        sdkTransformation = sdkBuilder.build();
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation translateMetricTransformationToSdk() {
+        return Translator.translateMetricTransformationToSdk(modelTransformation);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation baselineTranslateMetricTransformationToSdk() {
+        return Baseline.translateMetricTransformationToSdk(modelTransformation);
+    }
+
+    @Benchmark
+    public MetricTransformation translateMetricTransformationFromSdk() {
+        return Translator.translateMetricTransformationFromSdk(sdkTransformation);
+    }
+
+    @Benchmark
+    public MetricTransformation baselineTranslateMetricTransformationFromSdk() {
+        return Baseline.translateMetricTransformationFromSdk(sdkTransformation);
+    }
+
+    /**
+     * Previous Translator implementation, kept as the baseline of the benchmark
+     */
+    private static final class Baseline {
+
+        static software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation translateMetricTransformationToSdk(
+            final MetricTransformation metricTransformation
+        ) {
+            software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation metricTransformationSDKModel = software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation
+                .builder()
+                .metricName(metricTransformation.getMetricName())
+                .metricValue(metricTransformation.getMetricValue())
+                .metricNamespace(metricTransformation.getMetricNamespace())
+                .defaultValue(metricTransformation.getDefaultValue())
+                .build();
+
+            if (metricTransformation.getDimensions() != null && !metricTransformation.getDimensions().isEmpty()) {
+                HashMap<String, String> dimensionsMap = new HashMap<String, String>();
+                for (Dimension entry : metricTransformation.getDimensions()) {
+                    dimensionsMap.put(entry.getKey(), entry.getValue());
+                }
+                metricTransformationSDKModel = metricTransformationSDKModel.toBuilder().dimensions(dimensionsMap).build();
+            }
+
+            if (metricTransformation.getUnit() != null) {
+                metricTransformationSDKModel = metricTransformationSDKModel.toBuilder().unit(metricTransformation.getUnit()).build();
+            }
+
+            return metricTransformationSDKModel;
+        }
+
+        static MetricTransformation translateMetricTransformationFromSdk(
+            final software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation metricTransformation
+        ) {
+            MetricTransformation metricTransformationLogsModel = MetricTransformation
+                .builder()
+                .metricName(metricTransformation.metricName())
+                .metricValue(metricTransformation.metricValue())
+                .metricNamespace(metricTransformation.metricNamespace())
+                .defaultValue(metricTransformation.defaultValue())
+                .build();
+
+            if (metricTransformation.hasDimensions()) {
+                Set<Dimension> dimensionsSet = new HashSet<Dimension>();
+
+                for (String name : metricTransformation.dimensions().keySet()) {
+                    String key = name.toString();
+                    String value = metricTransformation.dimensions().get(name).toString();
+                    dimensionsSet.add(Dimension.builder().key(key).value(value).build());
+                }
+                metricTransformationLogsModel.setDimensions(dimensionsSet);
+            }
+            if (metricTransformation.unit() != null) {
+                metricTransformationLogsModel.setUnit(metricTransformation.unitAsString());
+            }
+
+            return metricTransformationLogsModel;
+        }
+    }
+}
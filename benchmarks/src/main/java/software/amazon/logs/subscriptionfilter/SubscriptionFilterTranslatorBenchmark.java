@@ -0,0 +1,60 @@
+package software.amazon.logs.subscriptionfilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Distribution;
+import software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter;
+
+/**
+ * Translation of a DescribeSubscriptionFilters page into resource models, by page size
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriptionFilterTranslatorBenchmark {
+
+    @Param({ "1", "2", "50" })
+    private int filterCount;
+
+    private DescribeSubscriptionFiltersResponse response;
+
+    @Setup
+    public void setup() {
+        final List<SubscriptionFilter> subscriptionFilters = new ArrayList<>(filterCount);
+        for (int i = 0; i < filterCount; i++) {
+            subscriptionFilters.add(
+                SubscriptionFilter
+                    .builder()
+                    .logGroupName("/benchmark/log-group")
+                    .filterName("filter-" + i)
+                    .filterPattern("[ip, user, username, timestamp, request, status_code = 4*, size]")
+                    .destinationArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark-" + i)
+                    .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                    .distribution(Distribution.BY_LOG_STREAM)
+                    .build()
+            );
+        }
+        response = DescribeSubscriptionFiltersResponse.builder().subscriptionFilters(subscriptionFilters).build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(response);
+    }
+}
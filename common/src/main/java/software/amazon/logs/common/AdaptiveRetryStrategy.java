@@ -0,0 +1,150 @@
+package software.amazon.logs.common;
+
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+/**
+ * Adaptive retry strategy that paces the requests of a client with additive increase, multiplicative decrease (AIMD).
+ *
+ * Requests are sent unpaced until the service throttles the client. Every throttled attempt then cuts the send rate in half,
+ * and every successful request raises it by a fixed step, until it is back at the ceiling and pacing is turned off again.
+ * Retries of the underlying policy still apply, but are spaced out by the send rate instead of all hitting the service during
+ * a throttling storm. An instance holds the state of one client, so it lives as long as the client across warm invocations.
+ *
+ * The time an attempt waits for its send slot is added to the {@link #PACING_DELAY} attribute of the call, so that
+ * {@link MetricsInterceptor} can report it apart from the latency of the service.
+ */
+@Slf4j
+public final class AdaptiveRetryStrategy implements ExecutionInterceptor {
+
+    static final double MIN_SEND_RATE = 0.5;
+    // Control plane APIs are rate limited to the permits of the token bucket, so pacing any faster never avoids a throttle
+    static final double MAX_SEND_RATE = TokenBucketRateLimiter.DEFAULT_PERMITS_PER_SECOND;
+    static final double ADDITIVE_INCREASE = 0.5;
+    static final double MULTIPLICATIVE_DECREASE = 0.5;
+
+    // Nanoseconds the attempts of a call have waited for their send slot so far
+    static final ExecutionAttribute<Long> PACING_DELAY = new ExecutionAttribute<>("AdaptiveRetryStrategy.PacingDelay");
+
+    private boolean pacing;
+    private double sendRate = MAX_SEND_RATE;
+    private long nextSendNanos;
+
+    /**
+     * Builds an override configuration whose retry policy and requests are paced by a new adaptive retry strategy
+     *
+     * @param configuration override configuration holding the retry policy to adapt, the SDK default policy is used if it has none
+     * @return a copy of the configuration with the strategy attached
+     */
+    public static ClientOverrideConfiguration apply(@NonNull final ClientOverrideConfiguration configuration) {
+        final AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy();
+        final RetryPolicy retryPolicy = configuration.retryPolicy().orElseGet(RetryPolicy::defaultRetryPolicy);
+
+        return configuration
+            .toBuilder()
+            .retryPolicy(retryPolicy.toBuilder().retryCondition(strategy.new AimdRetryCondition(retryPolicy.retryCondition())).build())
+            .addExecutionInterceptor(strategy)
+            .build();
+    }
+
+    /**
+     * Called before every attempt, including retries. Waits for the next send slot while the client is being paced.
+     */
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final long waitNanos = reserveSendSlot(System.nanoTime());
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        final Long pacingDelay = executionAttributes.getAttribute(PACING_DELAY);
+        executionAttributes.putAttribute(PACING_DELAY, pacingDelay == null ? waitNanos : pacingDelay + waitNanos);
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reserves the next send slot
+     *
+     * @return nanoseconds until the slot, 0 when the client is not being paced
+     */
+    synchronized long reserveSendSlot(final long nowNanos) {
+        if (!pacing) {
+            return 0;
+        }
+
+        final long sendNanos = Math.max(nowNanos, nextSendNanos);
+        nextSendNanos = sendNanos + (long) (TimeUnit.SECONDS.toNanos(1) / sendRate);
+        return sendNanos - nowNanos;
+    }
+
+    synchronized void onThrottle() {
+        pacing = true;
+        sendRate = Math.max(MIN_SEND_RATE, sendRate * MULTIPLICATIVE_DECREASE);
+        log.debug("Throttled, lowering send rate to [{}] requests per second", sendRate);
+    }
+
+    synchronized void onSuccess() {
+        if (!pacing) {
+            return;
+        }
+
+        sendRate = Math.min(MAX_SEND_RATE, sendRate + ADDITIVE_INCREASE);
+        if (sendRate >= MAX_SEND_RATE) {
+            log.debug("Send rate recovered, no longer pacing requests");
+            pacing = false;
+        }
+    }
+
+    synchronized double getSendRate() {
+        return sendRate;
+    }
+
+    synchronized boolean isPacing() {
+        return pacing;
+    }
+
+    /**
+     * Retry condition of the adapted policy, feeding throttled attempts and successful requests back into the send rate
+     */
+    private final class AimdRetryCondition implements RetryCondition {
+
+        private final RetryCondition delegate;
+
+        private AimdRetryCondition(final RetryCondition delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean shouldRetry(final RetryPolicyContext context) {
+            if (RetryUtils.isThrottlingException(context.exception())) {
+                onThrottle();
+            }
+            return delegate.shouldRetry(context);
+        }
+
+        @Override
+        public void requestWillNotBeRetried(final RetryPolicyContext context) {
+            delegate.requestWillNotBeRetried(context);
+        }
+
+        @Override
+        public void requestSucceeded(final RetryPolicyContext context) {
+            onSuccess();
+            delegate.requestSucceeded(context);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package software.amazon.logs.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClientBuilder;
+
+/**
+ * Opt-in counterpart of {@link ClientRegistry} for CloudWatchLogsAsyncClient instances.
+ *
+ * Async clients share a single non-blocking Netty transport, so a handler can keep many independent calls in flight
+ * without holding one thread per request. The transport is only created the first time an async client is requested.
+ *
+ * As in {@link ClientRegistry}, clients are keyed by region, retry profile and retry strategy, the least recently used client
+ * is dropped without being closed once the limit is reached, since calls may still be in flight on it, and clients are built
+ * outside the lock of the registry. With the adaptive strategy, the first attempt of a paced call waits on the thread that
+ * issues it, while retries wait on the thread of the SDK that schedules them.
+ */
+@Slf4j
+public final class AsyncClientRegistry {
+
+    static final int MAX_CLIENTS = 16;
+    static final int MAX_CONCURRENCY = 50;
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Map<ClientKey, CloudWatchLogsAsyncClient> CLIENTS = new LinkedHashMap<ClientKey, CloudWatchLogsAsyncClient>(
+        MAX_CLIENTS,
+        0.75f,
+        true
+    ) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ClientKey, CloudWatchLogsAsyncClient> eldest) {
+            if (size() <= MAX_CLIENTS) {
+                return false;
+            }
+
+            log.info("Evicting CloudWatchLogsAsyncClient for {}", eldest.getKey());
+            return true;
+        }
+    };
+
+    private AsyncClientRegistry() {}
+
+    /**
+     * Gets the async client for the given retry profile in the region resolved from the Lambda environment
+     *
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @return a shared CloudWatchLogsAsyncClient
+     */
+    public static CloudWatchLogsAsyncClient getClient(
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration
+    ) {
+        return getClient(null, retryProfile, configuration, RetryStrategy.FIXED);
+    }
+
+    /**
+     * Gets the async client for the given retry profile and strategy in the region resolved from the Lambda environment
+     *
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @param retryStrategy applied to the retry policy of the configuration
+     * @return a shared CloudWatchLogsAsyncClient
+     */
+    public static CloudWatchLogsAsyncClient getClient(
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration,
+        @NonNull final RetryStrategy retryStrategy
+    ) {
+        return getClient(null, retryProfile, configuration, retryStrategy);
+    }
+
+    /**
+     * Gets the async client for the given region and retry profile, building it on first use
+     *
+     * @param region        of the client, or null to resolve it from the Lambda environment
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @return a shared CloudWatchLogsAsyncClient
+     */
+    public static CloudWatchLogsAsyncClient getClient(
+        final String region,
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration
+    ) {
+        return getClient(region, retryProfile, configuration, RetryStrategy.FIXED);
+    }
+
+    /**
+     * Gets the async client for the given region, retry profile and strategy, building it on first use
+     *
+     * @param region        of the client, or null to resolve it from the Lambda environment
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @param retryStrategy applied to the retry policy of the configuration
+     * @return a shared CloudWatchLogsAsyncClient
+     */
+    public static CloudWatchLogsAsyncClient getClient(
+        final String region,
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration,
+        @NonNull final RetryStrategy retryStrategy
+    ) {
+        return getClient(new ClientKey(region, retryProfile, retryStrategy), configuration, AsyncClientRegistry::buildClient);
+    }
+
+    /**
+     * Gets the async client registered for the key, building it with the given factory on first use
+     *
+     * @param key           of the client
+     * @param configuration override configuration, before the retry strategy of the key is applied
+     * @param clientFactory builds the client of the key, outside the lock of the registry
+     * @return a shared CloudWatchLogsAsyncClient
+     */
+    static CloudWatchLogsAsyncClient getClient(
+        final ClientKey key,
+        final ClientOverrideConfiguration configuration,
+        final BiFunction<ClientKey, ClientOverrideConfiguration, CloudWatchLogsAsyncClient> clientFactory
+    ) {
+        synchronized (CLIENTS) {
+            final CloudWatchLogsAsyncClient client = CLIENTS.get(key);
+            if (client != null) {
+                return client;
+            }
+        }
+
+        final CloudWatchLogsAsyncClient builtClient = clientFactory.apply(key, key.getRetryStrategy().apply(configuration));
+
+        final CloudWatchLogsAsyncClient registeredClient;
+        synchronized (CLIENTS) {
+            registeredClient = CLIENTS.putIfAbsent(key, builtClient);
+        }
+        if (registeredClient == null) {
+            return builtClient;
+        }
+
+        // Another thread registered its client first, and this one was never handed out
+        closeClient(key, builtClient);
+        return registeredClient;
+    }
+
+    /**
+     * Closes and removes every async client held by the registry, once none of them is in use
+     */
+    public static void clear() {
+        synchronized (CLIENTS) {
+            CLIENTS.forEach(AsyncClientRegistry::closeClient);
+            CLIENTS.clear();
+        }
+    }
+
+    private static CloudWatchLogsAsyncClient buildClient(final ClientKey key, final ClientOverrideConfiguration configuration) {
+        log.info("Building CloudWatchLogsAsyncClient for {}", key);
+
+        final CloudWatchLogsAsyncClientBuilder builder = CloudWatchLogsAsyncClient
+            .builder()
+            .httpClient(HttpClientHolder.HTTP_CLIENT)
+            .overrideConfiguration(configuration);
+
+        if (key.getRegion() != null) {
+            builder.region(Region.of(key.getRegion()));
+        }
+
+        return builder.build();
+    }
+
+    private static void closeClient(final ClientKey key, final CloudWatchLogsAsyncClient client) {
+        log.info("Closing CloudWatchLogsAsyncClient for {}", key);
+
+        try {
+            client.close();
+        } catch (final Exception ex) {
+            log.error("Failed to close CloudWatchLogsAsyncClient for region [{}]", key.getRegion(), ex);
+        }
+    }
+
+    /**
+     * Lazy holder, so the Netty event loop is only started by handlers that opt in to the async path
+     */
+    private static final class HttpClientHolder {
+
+        private static final SdkAsyncHttpClient HTTP_CLIENT = NettyNioAsyncHttpClient
+            .builder()
+            .maxConcurrency(MAX_CONCURRENCY)
+            .connectionTimeout(CONNECTION_TIMEOUT)
+            .build();
+    }
+
+    @Value
+    static class ClientKey {
+
+        String region;
+        String retryProfile;
+        RetryStrategy retryStrategy;
+    }
+}
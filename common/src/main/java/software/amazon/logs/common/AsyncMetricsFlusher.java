@@ -0,0 +1,218 @@
+package software.amazon.logs.common;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * Serializes and writes EMF MetricsLogger objects on a background thread, so loggers submitted while a handler runs are written
+ * alongside its work instead of on the handler thread.
+ *
+ * Lambda freezes the container as soon as the handler returns, so a handler must {@link #drain(Duration)} the flusher before
+ * returning, or the queued loggers are only written when the container is thawed, if ever. Draining helps the background
+ * thread by writing queued loggers on the calling thread.
+ *
+ * Submitted loggers wait in a bounded queue. When the queue is full, the logger is dropped and counted, and the number of
+ * dropped loggers is published as the {@code MetricsFlusher.Dropped} metric once the queue has room again. A shutdown hook
+ * stops accepting loggers and drains the queue for up to {@link #SHUTDOWN_TIMEOUT}; loggers submitted after that are written
+ * on the calling thread.
+ *
+ * A logger must not be modified once submitted.
+ */
+@Slf4j
+public final class AsyncMetricsFlusher {
+
+    static final int DEFAULT_CAPACITY = 1024;
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(2);
+    static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(1);
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final MetricKey DROPPED_METRIC = MetricKey.of("MetricsFlusher", "Dropped", Unit.COUNT);
+
+    private final BlockingQueue<MetricsLogger> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    // Loggers queued or being written, drain waits on the drained monitor until none are left
+    private final AtomicLong pending = new AtomicLong();
+    private final Object drained = new Object();
+    private final Supplier<MetricsLogger> metricsSupplier;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    AsyncMetricsFlusher(final int capacity) {
+        this(capacity, MetricsProvider::getMetrics);
+    }
+
+    AsyncMetricsFlusher(final int capacity, @NonNull final Supplier<MetricsLogger> metricsSupplier) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.metricsSupplier = metricsSupplier;
+        this.worker = new Thread(this::run, "metrics-flusher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @return the flusher shared by every handler of the container, started on first use
+     */
+    public static AsyncMetricsFlusher shared() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * Hands a logger over to the background thread
+     *
+     * @param metrics EMF MetricsLogger object, not modified by the caller afterwards
+     * @return false if the queue was full and the logger was dropped
+     */
+    public boolean submit(@NonNull final MetricsLogger metrics) {
+        if (!running) {
+            flushQuietly(metrics);
+            return true;
+        }
+
+        pending.incrementAndGet();
+        if (!queue.offer(metrics)) {
+            complete();
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the queued loggers on the calling thread and waits for the one being written by the background thread, if any.
+     * To be called before a handler returns, since the background thread does not run while the container is frozen.
+     *
+     * @param timeout maximum time to wait for the queue to drain
+     * @return false if loggers were left unwritten when the timeout passed
+     */
+    public boolean drain(@NonNull final Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        MetricsLogger metrics;
+        while (deadline - System.nanoTime() > 0 && (metrics = queue.poll()) != null) {
+            flushQueued(metrics);
+        }
+        publishDropped();
+
+        synchronized (drained) {
+            long remainingNanos;
+            while (pending.get() > 0 && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(drained, remainingNanos);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        if (pending.get() > 0) {
+            log.warn("Metrics flusher drain timed out with [{}] loggers left to write", pending.get());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return number of loggers dropped and not yet reported in the {@code MetricsFlusher.Dropped} metric
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting loggers and waits for the queued ones to be written
+     *
+     * @param timeout maximum time to wait for the queue to drain
+     */
+    void shutdown(final Duration timeout) {
+        running = false;
+        try {
+            worker.join(timeout.toMillis());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            log.warn("Metrics flusher stopped with [{}] loggers left in the queue", queue.size());
+            return;
+        }
+
+        // Loggers submitted while the worker was stopping
+        MetricsLogger metrics;
+        while ((metrics = queue.poll()) != null) {
+            flushQueued(metrics);
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            final MetricsLogger metrics;
+            try {
+                metrics = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                running = false;
+                continue;
+            }
+
+            if (metrics != null) {
+                flushQueued(metrics);
+            }
+            publishDropped();
+        }
+    }
+
+    private void publishDropped() {
+        // Published by the background thread and by drain, so only the thread resetting the count publishes it
+        final long droppedCount = dropped.getAndSet(0L);
+        if (droppedCount == 0) {
+            return;
+        }
+
+        final MetricsLogger metrics = metricsSupplier.get();
+        MetricsHelper.putMetric(metrics, DROPPED_METRIC, droppedCount);
+        flushQuietly(metrics);
+    }
+
+    private void flushQueued(final MetricsLogger metrics) {
+        try {
+            flushQuietly(metrics);
+        } finally {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        }
+    }
+
+    private static void flushQuietly(final MetricsLogger metrics) {
+        try {
+            metrics.flush();
+        } catch (final Exception ex) {
+            log.error("Failed to flush MetricsLogger", ex);
+        }
+    }
+
+    /**
+     * Lazy holder, so the background thread is only started by handlers that publish metrics
+     */
+    private static final class Holder {
+
+        private static final AsyncMetricsFlusher SHARED = new AsyncMetricsFlusher(DEFAULT_CAPACITY);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> SHARED.shutdown(SHUTDOWN_TIMEOUT), "metrics-flusher-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package software.amazon.logs.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * ProxyClient decorator that serves describes of a log group from a {@link LogGroupDescribeCache}, scoped to the account and
+ * region of the handler request.
+ *
+ * Describe requests naming a log group go through the cache. Put and delete requests naming a log group invalidate its
+ * cached describes once sent, whether they succeeded or not. Other requests, and paginated calls, are passed through.
+ *
+ * A cached describe can be up to the TTL of the cache old, which is fine for Read and List but not for a describe deciding on a
+ * mutation, e.g. whether a resource already exists before creating it, or whether an update is a no-op. Those describes go
+ * through {@link #bypass(ProxyClient)}.
+ */
+public final class CachingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    static final MetricKey HIT_METRIC = MetricKey.of("DescribeCache", "Hit", Unit.COUNT);
+    private static final String LOG_GROUP_NAME_FIELD = "logGroupName";
+
+    private final ProxyClient<ClientT> delegate;
+    private final LogGroupDescribeCache cache;
+    private final String accountId;
+    private final String region;
+    private final MetricsLogger metrics;
+
+    CachingProxyClient(
+        final ProxyClient<ClientT> delegate,
+        final LogGroupDescribeCache cache,
+        final String accountId,
+        final String region,
+        final MetricsLogger metrics
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.accountId = accountId;
+        this.region = region;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps a ProxyClient with the shared describe cache
+     *
+     * @param delegate ProxyClient making the calls
+     * @param request  handler request, used for the account and region of the calls
+     * @param metrics  EMF MetricsLogger object cache hits are published to, or null to skip the metric
+     * @return a caching ProxyClient
+     */
+    public static <ClientT> ProxyClient<ClientT> wrap(
+        final ProxyClient<ClientT> delegate,
+        final ResourceHandlerRequest<?> request,
+        final MetricsLogger metrics
+    ) {
+        return new CachingProxyClient<>(delegate, LogGroupDescribeCache.shared(), request.getAwsAccountId(), request.getRegion(), metrics);
+    }
+
+    /**
+     * Gets a ProxyClient sending every call to the service, for describes whose result decides on a mutation
+     *
+     * @param proxyClient ProxyClient, possibly wrapped by {@link #wrap(ProxyClient, ResourceHandlerRequest, MetricsLogger)}
+     * @return the wrapped ProxyClient, or the given one if it does not cache
+     */
+    public static <ClientT> ProxyClient<ClientT> bypass(final ProxyClient<ClientT> proxyClient) {
+        if (proxyClient instanceof CachingProxyClient) {
+            return ((CachingProxyClient<ClientT>) proxyClient).delegate;
+        }
+        return proxyClient;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction
+    ) {
+        final String logGroupName = logGroupNameOf(request);
+        if (logGroupName == null) {
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        final String api = RateLimitedProxyClient.apiFamily(request);
+        if (api.startsWith("Describe")) {
+            final AtomicBoolean loaded = new AtomicBoolean(false);
+            final ResponseT response = cache.get(
+                accountId,
+                region,
+                logGroupName,
+                api,
+                request,
+                () -> {
+                    loaded.set(true);
+                    return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+                }
+            );
+            if (metrics != null) {
+                MetricsHelper.putMetric(metrics, HIT_METRIC, loaded.get() ? 0 : 1);
+            }
+            return response;
+        }
+
+        try {
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        } finally {
+            if (isWrite(api)) {
+                cache.invalidate(accountId, region, logGroupName);
+            }
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        final CompletableFuture<ResponseT> future = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+
+        final String logGroupName = logGroupNameOf(request);
+        if (logGroupName != null && isWrite(RateLimitedProxyClient.apiFamily(request))) {
+            return future.whenComplete((response, exception) -> cache.invalidate(accountId, region, logGroupName));
+        }
+        return future;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction
+    ) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private static boolean isWrite(final String api) {
+        return api.startsWith("Put") || api.startsWith("Delete");
+    }
+
+    private static String logGroupNameOf(final AwsRequest request) {
+        return request.getValueForField(LOG_GROUP_NAME_FIELD, String.class).orElse(null);
+    }
+}
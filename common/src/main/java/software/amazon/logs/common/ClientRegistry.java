@@ -0,0 +1,191 @@
+package software.amazon.logs.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Thread-safe registry of CloudWatchLogsClient instances, keyed by region, retry profile and retry strategy.
+ * A client is built once per key and reused across warm invocations of the handler.
+ *
+ * All clients share the HTTP client of the Lambda wrapper, so a new region does not open a new connection pool.
+ * The registry is bounded: the least recently used client is dropped once the limit is reached. It is not closed, as
+ * another thread may still be using it, and is left to the garbage collector.
+ *
+ * Clients are built outside the lock of the registry, so building the client of one region does not block lookups of
+ * the others. When two threads build the same client, the first one registered wins and the other one is closed unused.
+ */
+@Slf4j
+public final class ClientRegistry {
+
+    static final int MAX_CLIENTS = 16;
+
+    private static final Map<ClientKey, CloudWatchLogsClient> CLIENTS = new LinkedHashMap<ClientKey, CloudWatchLogsClient>(
+        MAX_CLIENTS,
+        0.75f,
+        true
+    ) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ClientKey, CloudWatchLogsClient> eldest) {
+            if (size() <= MAX_CLIENTS) {
+                return false;
+            }
+
+            log.info("Evicting CloudWatchLogsClient for {}", eldest.getKey());
+            return true;
+        }
+    };
+
+    private ClientRegistry() {}
+
+    /**
+     * Gets the client for the given retry profile in the region resolved from the Lambda environment
+     *
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @return a shared CloudWatchLogsClient
+     */
+    public static CloudWatchLogsClient getClient(@NonNull final String retryProfile, @NonNull final ClientOverrideConfiguration configuration) {
+        return getClient(null, retryProfile, configuration, RetryStrategy.FIXED);
+    }
+
+    /**
+     * Gets the client for the given retry profile and strategy in the region resolved from the Lambda environment
+     *
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @param retryStrategy applied to the retry policy of the configuration
+     * @return a shared CloudWatchLogsClient
+     */
+    public static CloudWatchLogsClient getClient(
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration,
+        @NonNull final RetryStrategy retryStrategy
+    ) {
+        return getClient(null, retryProfile, configuration, retryStrategy);
+    }
+
+    /**
+     * Gets the client for the given region and retry profile, building it on first use
+     *
+     * @param region        of the client, or null to resolve it from the Lambda environment
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @return a shared CloudWatchLogsClient
+     */
+    public static CloudWatchLogsClient getClient(
+        final String region,
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration
+    ) {
+        return getClient(region, retryProfile, configuration, RetryStrategy.FIXED);
+    }
+
+    /**
+     * Gets the client for the given region, retry profile and strategy, building it on first use. With the adaptive strategy,
+     * every client owns the state of its own {@link AdaptiveRetryStrategy}, which is kept across warm invocations.
+     *
+     * @param region        of the client, or null to resolve it from the Lambda environment
+     * @param retryProfile  name of the retry profile, unique per override configuration
+     * @param configuration override configuration used the first time the client is built
+     * @param retryStrategy applied to the retry policy of the configuration
+     * @return a shared CloudWatchLogsClient
+     */
+    public static CloudWatchLogsClient getClient(
+        final String region,
+        @NonNull final String retryProfile,
+        @NonNull final ClientOverrideConfiguration configuration,
+        @NonNull final RetryStrategy retryStrategy
+    ) {
+        return getClient(new ClientKey(region, retryProfile, retryStrategy), configuration, ClientRegistry::buildClient);
+    }
+
+    /**
+     * Gets the client registered for the key, building it with the given factory on first use
+     *
+     * @param key           of the client
+     * @param configuration override configuration, before the retry strategy of the key is applied
+     * @param clientFactory builds the client of the key, outside the lock of the registry
+     * @return a shared CloudWatchLogsClient
+     */
+    static CloudWatchLogsClient getClient(
+        final ClientKey key,
+        final ClientOverrideConfiguration configuration,
+        final BiFunction<ClientKey, ClientOverrideConfiguration, CloudWatchLogsClient> clientFactory
+    ) {
+
+        synchronized (CLIENTS) {
+            final CloudWatchLogsClient client = CLIENTS.get(key);
+            if (client != null) {
+                return client;
+            }
+        }
+
+        final CloudWatchLogsClient builtClient = clientFactory.apply(key, key.getRetryStrategy().apply(configuration));
+
+        final CloudWatchLogsClient registeredClient;
+        synchronized (CLIENTS) {
+            registeredClient = CLIENTS.putIfAbsent(key, builtClient);
+        }
+        if (registeredClient == null) {
+            return builtClient;
+        }
+
+        // Another thread registered its client first, and this one was never handed out
+        closeClient(key, builtClient);
+        return registeredClient;
+    }
+
+    /**
+     * Closes and removes every client held by the registry, once none of them is in use
+     */
+    public static void clear() {
+        synchronized (CLIENTS) {
+            CLIENTS.forEach(ClientRegistry::closeClient);
+            CLIENTS.clear();
+        }
+    }
+
+    private static CloudWatchLogsClient buildClient(final ClientKey key, final ClientOverrideConfiguration configuration) {
+        log.info("Building CloudWatchLogsClient for {}", key);
+
+        final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient
+            .builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(configuration);
+
+        if (key.getRegion() != null) {
+            builder.region(Region.of(key.getRegion()));
+        }
+
+        return builder.build();
+    }
+
+    private static void closeClient(final ClientKey key, final CloudWatchLogsClient client) {
+        log.info("Closing CloudWatchLogsClient for {}", key);
+
+        try {
+            client.close();
+        } catch (final Exception ex) {
+            log.error("Failed to close CloudWatchLogsClient for region [{}]", key.getRegion(), ex);
+        }
+    }
+
+    @Value
+    static class ClientKey {
+
+        String region;
+        String retryProfile;
+        RetryStrategy retryStrategy;
+    }
+}
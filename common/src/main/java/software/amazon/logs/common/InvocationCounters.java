@@ -0,0 +1,109 @@
+package software.amazon.logs.common;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+
+/**
+ * Counters of the handler invocation running on the current thread: API calls sent by the SDK clients, counted by
+ * {@link MetricsInterceptor}, and pages fetched by a {@link PaginationDriver}. The per call metrics of the interceptor are held
+ * by the invocation as well, and published to the MetricsLogger of the invocation once it completes.
+ *
+ * The SDK runs the first interceptor of a call on the calling thread for sync and async clients alike, so calls fanned out
+ * through an async client are counted too. Counters can be nested, e.g. when a handler invokes another handler, in which case
+ * every call is counted by the inner and the outer invocation.
+ *
+ * The counters also hold the start time of the invocation, from which a {@link PaginationDriver} derives its deadline.
+ */
+final class InvocationCounters {
+
+    private static final ThreadLocal<InvocationCounters> CURRENT = new ThreadLocal<>();
+
+    private final InvocationCounters parent;
+    private final long startTimeMillis;
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final AtomicInteger pagesScanned = new AtomicInteger();
+    // Written from the threads completing async calls, so concurrently with the handler thread
+    private final Queue<Consumer<MetricsLogger>> serviceCalls = new ConcurrentLinkedQueue<>();
+
+    private InvocationCounters(final InvocationCounters parent) {
+        this.parent = parent;
+        // A nested invocation runs within the time of the outermost one
+        this.startTimeMillis = parent == null ? System.currentTimeMillis() : parent.startTimeMillis;
+    }
+
+    /**
+     * Starts counting for an invocation on the current thread
+     *
+     * @return the counters of the invocation, to be stopped once the invocation completes
+     */
+    static InvocationCounters start() {
+        final InvocationCounters counters = new InvocationCounters(CURRENT.get());
+        CURRENT.set(counters);
+        return counters;
+    }
+
+    /**
+     * Stops counting, and gives the current thread back to the enclosing invocation if any
+     */
+    void stop() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    /**
+     * @return the counters of the invocation running on the current thread, or null if none
+     */
+    static InvocationCounters current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Holds the metrics of a service call until the invocation is published. Calls completing after that are not published.
+     *
+     * @param publisher writing the metrics of the call to the MetricsLogger of the invocation
+     */
+    void recordServiceCall(final Consumer<MetricsLogger> publisher) {
+        serviceCalls.add(publisher);
+    }
+
+    /**
+     * Publishes the metrics of the service calls recorded so far, on the thread owning the MetricsLogger of the invocation
+     *
+     * @param metrics EMF MetricsLogger object of the invocation
+     */
+    void publishServiceCalls(final MetricsLogger metrics) {
+        for (Consumer<MetricsLogger> publisher = serviceCalls.poll(); publisher != null; publisher = serviceCalls.poll()) {
+            publisher.accept(metrics);
+        }
+    }
+
+    long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    int getApiCalls() {
+        return apiCalls.get();
+    }
+
+    int getPagesScanned() {
+        return pagesScanned.get();
+    }
+
+    static void recordApiCall() {
+        for (InvocationCounters counters = CURRENT.get(); counters != null; counters = counters.parent) {
+            counters.apiCalls.incrementAndGet();
+        }
+    }
+
+    static void recordPageScanned() {
+        for (InvocationCounters counters = CURRENT.get(); counters != null; counters = counters.parent) {
+            counters.pagesScanned.incrementAndGet();
+        }
+    }
+}
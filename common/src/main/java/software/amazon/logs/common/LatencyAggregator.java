@@ -0,0 +1,153 @@
+package software.amazon.logs.common;
+
+import static software.amazon.logs.common.MetricsConstants.OPERATION;
+import static software.amazon.logs.common.MetricsConstants.TIME;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.DimensionSet;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * Aggregates handler latencies across the warm invocations of a container and publishes their percentiles.
+ *
+ * Every recorded latency goes to the histogram of its operation and to the histogram of the whole resource type. Once
+ * {@link #DEFAULT_FLUSH_COUNT} latencies were recorded or {@link #DEFAULT_FLUSH_INTERVAL} has passed since the last flush, the
+ * recording invocation publishes {@code Time.p50}, {@code Time.p90}, {@code Time.p99}, {@code Time.Max} and
+ * {@code Time.SampleCount}, with an {@code Operation} dimension per operation and without dimension for the resource type.
+ * Metrics are written to the namespace of {@link MetricsProvider}, which is already scoped to the resource type.
+ *
+ * Thresholds are only checked when a latency is recorded, since a Lambda container is frozen between invocations.
+ */
+@Slf4j
+public final class LatencyAggregator {
+
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMinutes(1);
+    public static final long DEFAULT_FLUSH_COUNT = 1000;
+    static final int MAX_OPERATIONS = 64;
+    static final String OTHER_OPERATION = "Other";
+
+    private static final MetricKey P50 = MetricKey.of(TIME, "p50", Unit.MILLISECONDS);
+    private static final MetricKey P90 = MetricKey.of(TIME, "p90", Unit.MILLISECONDS);
+    private static final MetricKey P99 = MetricKey.of(TIME, "p99", Unit.MILLISECONDS);
+    private static final MetricKey MAX = MetricKey.of(TIME, "Max", Unit.MILLISECONDS);
+    private static final MetricKey SAMPLE_COUNT = MetricKey.of(TIME, "SampleCount", Unit.COUNT);
+
+    private static final LatencyAggregator SHARED = new LatencyAggregator(DEFAULT_FLUSH_INTERVAL, DEFAULT_FLUSH_COUNT);
+
+    private final long flushIntervalMillis;
+    private final long flushCount;
+    private final LongSupplier clock;
+    private final Supplier<MetricsLogger> metricsSupplier;
+
+    private final ConcurrentMap<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final LatencyHistogram resourceType = new LatencyHistogram();
+    private final AtomicLong recordedSinceFlush = new AtomicLong();
+    private final AtomicLong lastFlushTime;
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    /**
+     * @param flushInterval maximum time between two flushes
+     * @param flushCount    number of recorded latencies that triggers a flush
+     */
+    public LatencyAggregator(@NonNull final Duration flushInterval, final long flushCount) {
+        this(flushInterval, flushCount, System::currentTimeMillis, MetricsProvider::getMetrics);
+    }
+
+    LatencyAggregator(
+        @NonNull final Duration flushInterval,
+        final long flushCount,
+        @NonNull final LongSupplier clock,
+        @NonNull final Supplier<MetricsLogger> metricsSupplier
+    ) {
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.flushCount = flushCount;
+        this.clock = clock;
+        this.metricsSupplier = metricsSupplier;
+        this.lastFlushTime = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * @return the aggregator shared by every handler of the container
+     */
+    public static LatencyAggregator shared() {
+        return SHARED;
+    }
+
+    /**
+     * Records the latency of an operation, and flushes the percentiles when a threshold is reached
+     *
+     * @param operation     name of the operation, e.g. the handler class
+     * @param latencyMillis latency in milliseconds
+     */
+    public void record(@NonNull final String operation, final long latencyMillis) {
+        histogramOf(operation).record(latencyMillis);
+        resourceType.record(latencyMillis);
+
+        if (recordedSinceFlush.incrementAndGet() >= flushCount || clock.getAsLong() - lastFlushTime.get() >= flushIntervalMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Publishes the percentiles recorded since the last flush. A flush already running on another thread is not waited for.
+     */
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            recordedSinceFlush.set(0L);
+            lastFlushTime.set(clock.getAsLong());
+
+            for (final Map.Entry<String, LatencyHistogram> entry : operations.entrySet()) {
+                publish(entry.getKey(), entry.getValue().snapshotAndReset());
+            }
+            publish(null, resourceType.snapshotAndReset());
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private LatencyHistogram histogramOf(final String operation) {
+        final LatencyHistogram histogram = operations.get(operation);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (operations.size() >= MAX_OPERATIONS) {
+            return operations.computeIfAbsent(OTHER_OPERATION, o -> new LatencyHistogram());
+        }
+        return operations.computeIfAbsent(operation, o -> new LatencyHistogram());
+    }
+
+    private void publish(final String operation, final LatencyHistogram.Snapshot snapshot) {
+        if (snapshot.getCount() == 0) {
+            return;
+        }
+
+        try {
+            final MetricsLogger metrics = metricsSupplier.get();
+            if (operation != null) {
+                metrics.putDimensions(DimensionSet.of(OPERATION, operation));
+            }
+            MetricsHelper.putMetric(metrics, P50, snapshot.getP50());
+            MetricsHelper.putMetric(metrics, P90, snapshot.getP90());
+            MetricsHelper.putMetric(metrics, P99, snapshot.getP99());
+            MetricsHelper.putMetric(metrics, MAX, snapshot.getMax());
+            MetricsHelper.putMetric(metrics, SAMPLE_COUNT, snapshot.getCount());
+            MetricsHelper.flush(metrics);
+        } catch (final Exception ex) {
+            log.error("Failed to publish latency percentiles of operation [{}]", operation, ex);
+        }
+    }
+}
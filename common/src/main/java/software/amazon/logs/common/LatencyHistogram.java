@@ -0,0 +1,111 @@
+package software.amazon.logs.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Value;
+
+/**
+ * Lock-free latency histogram in milliseconds, with log-linear buckets in the style of HdrHistogram.
+ *
+ * Values below {@link #SUB_BUCKET_COUNT} get a bucket of their own. Above that, every power of two is split into
+ * {@link #SUB_BUCKET_COUNT} buckets, so a percentile is reported within about 3% of the recorded value. Values above
+ * {@link #MAX_VALUE} are counted in the last bucket, but the exact maximum is always kept.
+ *
+ * Recording only increments atomic counters, so it never blocks a handler thread. {@link #snapshotAndReset()} drains the
+ * counters bucket by bucket, so every value recorded concurrently lands in exactly one snapshot.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final long MAX_VALUE = 60L * 60L * 1000L;
+    private static final int MAX_MAGNITUDE = magnitude(MAX_VALUE);
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * @param value latency in milliseconds, negative values are recorded as 0
+     */
+    void record(final long value) {
+        final long clampedValue = Math.max(0L, value);
+        counts.incrementAndGet(indexOf(Math.min(clampedValue, MAX_VALUE)));
+        maxValue.accumulateAndGet(clampedValue, Math::max);
+    }
+
+    /**
+     * Reads the values recorded since the previous snapshot and resets the histogram
+     *
+     * @return percentiles of the drained values
+     */
+    Snapshot snapshotAndReset() {
+        final long[] snapshot = new long[counts.length()];
+        long totalCount = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.getAndSet(i, 0L);
+            totalCount += snapshot[i];
+        }
+        final long max = maxValue.getAndSet(0L);
+
+        return new Snapshot(
+            totalCount,
+            valueAtPercentile(snapshot, totalCount, 50.0, max),
+            valueAtPercentile(snapshot, totalCount, 90.0, max),
+            valueAtPercentile(snapshot, totalCount, 99.0, max),
+            max
+        );
+    }
+
+    private static long valueAtPercentile(final long[] snapshot, final long totalCount, final double percentile, final long max) {
+        if (totalCount == 0) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            count += snapshot[i];
+            if (count >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int magnitude = magnitude(value);
+        final int subBucket = (int) (value >>> magnitude) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT * (magnitude + 1) + subBucket;
+    }
+
+    static long highestValueOf(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int magnitude = Math.min(index / SUB_BUCKET_COUNT - 1, MAX_MAGNITUDE);
+        final long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    /**
+     * @return number of bits to shift a value by so it fits in the sub-buckets
+     */
+    private static int magnitude(final long value) {
+        return Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    }
+
+    @Value
+    static class Snapshot {
+
+        long count;
+        long p50;
+        long p90;
+        long p99;
+        long max;
+    }
+}
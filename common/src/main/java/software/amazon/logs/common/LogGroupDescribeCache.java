@@ -0,0 +1,151 @@
+package software.amazon.logs.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Short-lived cache of describe responses of a log group, keyed by account, region, log group and API.
+ *
+ * Stacks often create dozens of metric or subscription filters on the same log group at once, and every create, update and
+ * read of a filter starts with a describe of that log group. Responses are kept for {@link #DEFAULT_TTL}, so a warm container
+ * serves those describes with a single call. Writes to a log group invalidate its entries, and the cache holds at most
+ * {@link #MAX_ENTRIES} entries, evicting the least recently used one.
+ *
+ * An entry only serves requests equal to the one it was loaded with, so different pages of the same API are cached apart.
+ */
+public final class LogGroupDescribeCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(5);
+    static final int MAX_ENTRIES = 256;
+
+    private static final LogGroupDescribeCache SHARED = new LogGroupDescribeCache(DEFAULT_TTL, MAX_ENTRIES);
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<CacheKey, CacheEntry> entries;
+    // Guarded by entries
+    private long invalidations;
+
+    /**
+     * @param ttl        time a response is served from the cache
+     * @param maxEntries maximum number of cached responses
+     */
+    public LogGroupDescribeCache(@NonNull final Duration ttl, final int maxEntries) {
+        this(ttl, maxEntries, System::currentTimeMillis);
+    }
+
+    LogGroupDescribeCache(@NonNull final Duration ttl, final int maxEntries, @NonNull final LongSupplier clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(String.format("Invalid cache size [%s]", maxEntries));
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries =
+            new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<CacheKey, CacheEntry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+    }
+
+    /**
+     * @return the cache shared by every handler of the container
+     */
+    public static LogGroupDescribeCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached response of a describe request, loading and caching it when missing or expired. Nothing is cached
+     * when the loader throws, or when the log group was written to while loading.
+     *
+     * @param accountId    AWS account of the caller
+     * @param region       of the call
+     * @param logGroupName log group the request is scoped to
+     * @param api          name of the API, e.g. DescribeMetricFilters
+     * @param request      describe request, compared by equality with the request of the cached response
+     * @param loader       sends the request
+     * @return the response of the request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(
+        final String accountId,
+        final String region,
+        @NonNull final String logGroupName,
+        @NonNull final String api,
+        @NonNull final Object request,
+        @NonNull final Supplier<T> loader
+    ) {
+        final CacheKey key = new CacheKey(accountId, region, logGroupName, api, request);
+        final long loadGeneration;
+
+        synchronized (entries) {
+            final CacheEntry entry = entries.get(key);
+            if (entry != null && entry.getExpiresAt() > clock.getAsLong()) {
+                return (T) entry.getResponse();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            loadGeneration = invalidations;
+        }
+
+        final T response = loader.get();
+
+        synchronized (entries) {
+            // An invalidation while loading may have made the response stale
+            if (response != null && loadGeneration == invalidations) {
+                entries.put(key, new CacheEntry(response, clock.getAsLong() + ttlMillis));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Drops the cached responses of every API for a log group
+     *
+     * @param accountId    AWS account of the caller
+     * @param region       of the calls
+     * @param logGroupName log group that was written to
+     */
+    public void invalidate(final String accountId, final String region, @NonNull final String logGroupName) {
+        synchronized (entries) {
+            invalidations++;
+            entries.keySet().removeIf(key -> key.isScopedTo(accountId, region, logGroupName));
+        }
+    }
+
+    @Value
+    private static class CacheKey {
+
+        String accountId;
+        String region;
+        String logGroupName;
+        String api;
+        Object request;
+
+        boolean isScopedTo(final String otherAccountId, final String otherRegion, final String otherLogGroupName) {
+            return (
+                logGroupName.equals(otherLogGroupName) &&
+                Objects.equals(accountId, otherAccountId) &&
+                Objects.equals(region, otherRegion)
+            );
+        }
+    }
+
+    @Value
+    private static class CacheEntry {
+
+        Object response;
+        long expiresAt;
+    }
+}
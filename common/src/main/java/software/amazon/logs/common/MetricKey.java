@@ -0,0 +1,97 @@
+package software.amazon.logs.common;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * Name and unit of a metric, built once and reused by every invocation instead of formatting the metric name on each call.
+ *
+ * Keys and names derived from a runtime prefix, e.g. a handler phase or an SDK operation, are kept in a registry for the lifetime
+ * of the container, so a warm invocation looks them up without allocating. The registry is bounded; past {@link #MAX_NAMES}
+ * derived names, new names are still built correctly but not cached.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricKey {
+
+    static final int MAX_NAMES = 1024;
+    private static final String SEPARATOR = ".";
+
+    private static final ConcurrentMap<String, ConcurrentMap<String, String>> NAMES = new ConcurrentHashMap<>();
+    private static final Map<Unit, ConcurrentMap<String, MetricKey>> KEYS = new EnumMap<>(Unit.class);
+
+    static {
+        for (final Unit unit : Unit.values()) {
+            KEYS.put(unit, new ConcurrentHashMap<>());
+        }
+    }
+
+    String name;
+    Unit unit;
+
+    /**
+     * @param name of the metric
+     * @param unit of the metric
+     * @return the registered key for the name and unit
+     */
+    public static MetricKey of(@NonNull final String name, @NonNull final Unit unit) {
+        final ConcurrentMap<String, MetricKey> keys = KEYS.get(unit);
+        final MetricKey key = keys.get(name);
+        if (key != null) {
+            return key;
+        }
+
+        final MetricKey newKey = new MetricKey(name, unit);
+        if (keys.size() >= MAX_NAMES) {
+            return newKey;
+        }
+        final MetricKey existingKey = keys.putIfAbsent(name, newKey);
+        return existingKey != null ? existingKey : newKey;
+    }
+
+    /**
+     * @param prefix of the metric name, e.g. {@link MetricsConstants#SERVICE}
+     * @param suffix of the metric name, e.g. {@code Time}
+     * @param unit   of the metric
+     * @return the registered key for {@code <prefix>.<suffix>}
+     */
+    public static MetricKey of(final String prefix, final String suffix, final Unit unit) {
+        return of(name(prefix, suffix), unit);
+    }
+
+    /**
+     * Gets the name {@code <prefix>.<suffix>} of a metric or property, only concatenating the first time it is requested
+     *
+     * @param prefix of the name
+     * @param suffix of the name
+     * @return the registered name
+     */
+    public static String name(@NonNull final String prefix, @NonNull final String suffix) {
+        ConcurrentMap<String, String> names = NAMES.get(prefix);
+        if (names == null) {
+            if (NAMES.size() >= MAX_NAMES) {
+                return prefix + SEPARATOR + suffix;
+            }
+            names = NAMES.computeIfAbsent(prefix, p -> new ConcurrentHashMap<>());
+        }
+
+        final String name = names.get(suffix);
+        if (name != null) {
+            return name;
+        }
+
+        final String newName = prefix + SEPARATOR + suffix;
+        if (names.size() >= MAX_NAMES) {
+            return newName;
+        }
+        final String existingName = names.putIfAbsent(suffix, newName);
+        return existingName != null ? existingName : newName;
+    }
+}
@@ -1,5 +1,7 @@
 package software.amazon.logs.common;
 
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
 /**
  * Constants class for Metrics
  */
@@ -11,5 +13,35 @@ public final class MetricsConstants {
     public static final String SERVICE = "Service";
     public static final String OPERATION = "Operation";
 
+    // Phases of a handler invocation, timed with MetricsHelper.timePhase
+    public static final String PRE_CHECK = "PreCheck";
+    public static final String SERVICE_CALL = "ServiceCall";
+    public static final String READ_BACK = "ReadBack";
+
+    // Property names, concatenated at compile time so every invocation shares the same interned String
+    public static final String AWS_ACCOUNT_ID = "AwsAccountId";
+    public static final String CFN_REQUEST_TOKEN = CFN + ".RequestToken";
+    public static final String CFN_STACK_ID = CFN + ".StackId";
+    public static final String CFN_MESSAGE = CFN + ".Message";
+    public static final String CFN_RESULT = CFN + ".Result";
+    public static final String CFN_ERROR_CODE = CFN + ".ErrorCode";
+    public static final String CFN_STATUS = CFN + ".Status";
+    public static final String SERVICE_REQUEST_ID = SERVICE + ".RequestId";
+    public static final String SERVICE_STATUS_CODE = SERVICE + ".StatusCode";
+    public static final String SERVICE_STATUS_TEXT = SERVICE + ".StatusText";
+
+    // Suffixes of the properties published for an exception under a prefix
+    public static final String EXCEPTION = "Exception";
+    public static final String EXCEPTION_MESSAGE = "ExceptionMessage";
+    public static final String STACK_TRACE = "StackTrace";
+
+    public static final String TIME = "Time";
+
+    public static final MetricKey TIME_METRIC = MetricKey.of(TIME, Unit.MILLISECONDS);
+    public static final MetricKey CFN_SUCCESS_METRIC = MetricKey.of(CFN, "Success", Unit.NONE);
+    public static final MetricKey SERVICE_SUCCESS_METRIC = MetricKey.of(SERVICE, "Success", Unit.NONE);
+    public static final MetricKey API_CALLS_METRIC = MetricKey.of("ApiCalls", Unit.COUNT);
+    public static final MetricKey PAGES_SCANNED_METRIC = MetricKey.of("PagesScanned", Unit.COUNT);
+
     private MetricsConstants() {}
 }
@@ -1,12 +1,32 @@
 package software.amazon.logs.common;
 
+import static software.amazon.logs.common.MetricsConstants.API_CALLS_METRIC;
+import static software.amazon.logs.common.MetricsConstants.AWS_ACCOUNT_ID;
 import static software.amazon.logs.common.MetricsConstants.CFN;
-import static software.amazon.logs.common.MetricsConstants.SERVICE;
+import static software.amazon.logs.common.MetricsConstants.CFN_ERROR_CODE;
+import static software.amazon.logs.common.MetricsConstants.CFN_MESSAGE;
+import static software.amazon.logs.common.MetricsConstants.CFN_REQUEST_TOKEN;
+import static software.amazon.logs.common.MetricsConstants.CFN_RESULT;
+import static software.amazon.logs.common.MetricsConstants.CFN_STACK_ID;
+import static software.amazon.logs.common.MetricsConstants.CFN_STATUS;
+import static software.amazon.logs.common.MetricsConstants.CFN_SUCCESS_METRIC;
+import static software.amazon.logs.common.MetricsConstants.EXCEPTION;
+import static software.amazon.logs.common.MetricsConstants.EXCEPTION_MESSAGE;
+import static software.amazon.logs.common.MetricsConstants.OPERATION;
+import static software.amazon.logs.common.MetricsConstants.PAGES_SCANNED_METRIC;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_REQUEST_ID;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_STATUS_CODE;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_STATUS_TEXT;
+import static software.amazon.logs.common.MetricsConstants.SERVICE_SUCCESS_METRIC;
+import static software.amazon.logs.common.MetricsConstants.STACK_TRACE;
+import static software.amazon.logs.common.MetricsConstants.TIME;
+import static software.amazon.logs.common.MetricsConstants.TIME_METRIC;
 
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsResponseMetadata;
@@ -19,7 +39,10 @@ import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
 import software.amazon.cloudwatchlogs.emf.model.Unit;
 
 /**
- * Helper class to be used with an EMF MetricsLogger object to publish metrics and properties
+ * Helper class to be used with an EMF MetricsLogger object to publish metrics and properties.
+ *
+ * Metric and property names come from {@link MetricsConstants} or the {@link MetricKey} registry, so publishing does not format
+ * a new name on every call.
  */
 @Slf4j
 public final class MetricsHelper {
@@ -79,17 +102,28 @@ public final class MetricsHelper {
     }
 
     /**
-     * Helper method to quickly publish properties of an exception, such as the exception class, exception message, and exception stack trace
+     * @param metrics EMF MetricsLogger object
+     * @param key     name and unit of the metric to publish
+     * @param value   of the metric
+     */
+    public static void putMetric(final MetricsLogger metrics, final MetricKey key, final double value) {
+        putMetric(metrics, key.getName(), value, key.getUnit());
+    }
+
+    /**
+     * Helper method to quickly publish properties of an exception, such as the exception class, exception message, and exception stack trace.
+     * The stack trace is sampled per exception class and bounded in size, see {@link StackTraceSampler}.
      *
      * @param metrics   EMF MetricsLogger object
      * @param exception object
      * @param prefix    of the metric name
      */
     public static void putExceptionProperty(final MetricsLogger metrics, final Exception exception, final String prefix) {
-        final String stackTrace = ExceptionUtils.getStackTrace(exception);
-        putProperty(metrics, String.format("%s.Exception", prefix), exception.getClass().getSimpleName());
-        putProperty(metrics, String.format("%s.ExceptionMessage", prefix), exception.getMessage());
-        putProperty(metrics, String.format("%s.StackTrace", prefix), stackTrace);
+        putProperty(metrics, MetricKey.name(prefix, EXCEPTION), exception.getClass().getSimpleName());
+        putProperty(metrics, MetricKey.name(prefix, EXCEPTION_MESSAGE), exception.getMessage());
+        if (StackTraceSampler.shouldCapture(exception)) {
+            putProperty(metrics, MetricKey.name(prefix, STACK_TRACE), StackTraceSampler.render(exception));
+        }
     }
 
     /**
@@ -100,16 +134,57 @@ public final class MetricsHelper {
      * @param endTime   end timestamp in milliseconds
      */
     public static void putTime(final MetricsLogger metrics, final long startTime, final long endTime) {
-        putMetric(metrics, "Time", endTime - startTime, Unit.MILLISECONDS);
+        putMetric(metrics, TIME_METRIC, endTime - startTime);
+    }
+
+    /**
+     * Publishes the time of an invocation like {@link #putTime(MetricsLogger, long, long)}, and records it in the
+     * {@link LatencyAggregator} of the container for the percentiles of the operation
+     *
+     * @param metrics   EMF MetricsLogger object
+     * @param operation name of the operation, e.g. the handler class
+     * @param startTime start timestamp in milliseconds
+     * @param endTime   end timestamp in milliseconds
+     */
+    public static void putTime(final MetricsLogger metrics, final String operation, final long startTime, final long endTime) {
+        putTime(metrics, startTime, endTime);
+        LatencyAggregator.shared().record(operation, endTime - startTime);
     }
 
     /**
-     * Flush the MetricsLogger object to STDOUT
+     * Runs one phase of a handler invocation and publishes its duration as the {@code <phase>.Time} metric, also when the phase throws
+     *
+     * @param metrics EMF MetricsLogger object of the invocation
+     * @param phase   name of the phase, e.g. {@link MetricsConstants#PRE_CHECK}
+     * @param body    of the phase
+     * @return the result of the phase
+     */
+    public static <T> T timePhase(final MetricsLogger metrics, final String phase, final Supplier<T> body) {
+        final MetricKey key = MetricKey.of(phase, TIME, Unit.MILLISECONDS);
+        final long startTime = System.currentTimeMillis();
+        try {
+            return body.get();
+        } finally {
+            putMetric(metrics, key, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Flush the MetricsLogger object to STDOUT. The logger is written by the {@link AsyncMetricsFlusher} of the container,
+     * off the calling thread, and must not be modified afterwards. A handler must {@link #drain()} before returning.
      *
      * @param metrics EMF MetricsLogger object
      */
     public static void flush(final MetricsLogger metrics) {
-        metrics.flush();
+        AsyncMetricsFlusher.shared().submit(metrics);
+    }
+
+    /**
+     * Waits for the loggers flushed so far to be written, for up to a second, before the handler returns and Lambda freezes the
+     * container
+     */
+    public static void drain() {
+        AsyncMetricsFlusher.shared().drain(AsyncMetricsFlusher.DRAIN_TIMEOUT);
     }
 
     /**
@@ -125,12 +200,12 @@ public final class MetricsHelper {
         final SdkHttpResponse sdkHttpResponse = response.sdkHttpResponse();
 
         if (Objects.nonNull(responseMetadata)) {
-            putProperty(metrics, String.format("%s.RequestId", SERVICE), responseMetadata.requestId());
+            putProperty(metrics, SERVICE_REQUEST_ID, responseMetadata.requestId());
         }
         if (Objects.nonNull(sdkHttpResponse)) {
-            putMetric(metrics, String.format("%s.Success", SERVICE), sdkHttpResponse.isSuccessful() ? 1 : 0);
-            putProperty(metrics, String.format("%s.StatusCode", SERVICE), sdkHttpResponse.statusCode());
-            putProperty(metrics, String.format("%s.StatusText", SERVICE), sdkHttpResponse.statusText());
+            putMetric(metrics, SERVICE_SUCCESS_METRIC, sdkHttpResponse.isSuccessful() ? 1 : 0);
+            putProperty(metrics, SERVICE_STATUS_CODE, sdkHttpResponse.statusCode());
+            putProperty(metrics, SERVICE_STATUS_TEXT, sdkHttpResponse.statusText());
         }
     }
 
@@ -146,14 +221,14 @@ public final class MetricsHelper {
         final HandlerErrorCode errorCode = result.getErrorCode();
         final OperationStatus status = result.getStatus();
 
-        putMetric(metrics, String.format("%s.Success", CFN), result.isSuccess() ? 1 : 0);
-        putProperty(metrics, String.format("%s.Message", CFN), result.getMessage());
-        putProperty(metrics, String.format("%s.Result", CFN), result.getResult());
+        putMetric(metrics, CFN_SUCCESS_METRIC, result.isSuccess() ? 1 : 0);
+        putProperty(metrics, CFN_MESSAGE, result.getMessage());
+        putProperty(metrics, CFN_RESULT, result.getResult());
         if (Objects.nonNull(errorCode)) {
-            putProperty(metrics, String.format("%s.ErrorCode", CFN), errorCode.name());
+            putProperty(metrics, CFN_ERROR_CODE, errorCode.name());
         }
         if (Objects.nonNull(status)) {
-            putProperty(metrics, String.format("%s.Status", CFN), status.name());
+            putProperty(metrics, CFN_STATUS, status.name());
         }
     }
 
@@ -164,8 +239,47 @@ public final class MetricsHelper {
      * @param request ResourceHandlerRequest object
      */
     public static void putCFNRequestProperties(final MetricsLogger metrics, final ResourceHandlerRequest<?> request) {
-        putProperty(metrics, "AwsAccountId", request.getAwsAccountId());
-        putProperty(metrics, String.format("%s.RequestToken", CFN), request.getClientRequestToken());
-        putProperty(metrics, String.format("%s.StackId", CFN), request.getStackId());
+        putProperty(metrics, AWS_ACCOUNT_ID, request.getAwsAccountId());
+        putProperty(metrics, CFN_REQUEST_TOKEN, request.getClientRequestToken());
+        putProperty(metrics, CFN_STACK_ID, request.getStackId());
+    }
+
+    /**
+     * Runs a handler invocation with a MetricsLogger of its own, for handler modules without a BaseHandlerStd publishing metrics.
+     * Publishes the operation, the CFN request and result properties, the exception of a failed invocation and the time, as well
+     * as the number of API calls and pages scanned by the invocation and the metrics of its service calls, see {@link MetricsInterceptor}.
+     *
+     * @param request   ResourceHandlerRequest object
+     * @param operation name of the operation, e.g. the handler class
+     * @param handler   invocation of the handler, given the MetricsLogger of the invocation
+     * @return the result of the handler
+     */
+    public static <ResourceT, CallbackT> ProgressEvent<ResourceT, CallbackT> instrument(
+        final ResourceHandlerRequest<ResourceT> request,
+        final String operation,
+        final Function<MetricsLogger, ProgressEvent<ResourceT, CallbackT>> handler
+    ) {
+        final long startTime = System.currentTimeMillis();
+        final MetricsLogger metrics = MetricsProvider.getMetrics();
+        final InvocationCounters counters = InvocationCounters.start();
+        putCFNRequestProperties(metrics, request);
+        putProperty(metrics, OPERATION, operation);
+
+        try {
+            final ProgressEvent<ResourceT, CallbackT> result = handler.apply(metrics);
+            putCFNProperties(metrics, result);
+            return result;
+        } catch (final RuntimeException ex) {
+            putExceptionProperty(metrics, ex, CFN);
+            throw ex;
+        } finally {
+            counters.stop();
+            counters.publishServiceCalls(metrics);
+            putMetric(metrics, API_CALLS_METRIC, counters.getApiCalls());
+            putMetric(metrics, PAGES_SCANNED_METRIC, counters.getPagesScanned());
+            putTime(metrics, operation, startTime, System.currentTimeMillis());
+            flush(metrics);
+            drain();
+        }
     }
 }
@@ -0,0 +1,186 @@
+package software.amazon.logs.common;
+
+import static software.amazon.logs.common.MetricsConstants.SERVICE;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * SDK interceptor publishing per API call telemetry that is not visible on the response: latency of the first attempt and of
+ * the whole call including retries, number of attempts and throttled attempts, the last HTTP status, and bytes sent and received.
+ * Time spent waiting for a send slot of an {@link AdaptiveRetryStrategy} is left out of both latencies and published on its own.
+ *
+ * Clients are shared across invocations, so a call is attached to the invocation running on the calling thread when it starts,
+ * see {@link InvocationCounters}, and published with the MetricsLogger of that invocation under metric names prefixed with the
+ * operation, e.g. {@code Service.PutMetricFilter.Attempts}. Repeated calls of an operation add values to the same metrics.
+ * Calls made outside of an instrumented invocation, see {@link MetricsHelper#instrument}, are not published.
+ */
+@Slf4j
+public final class MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String ERROR_TYPE = "x-amzn-ErrorType";
+    private static final String THROTTLING = "Throttling";
+
+    private static final ExecutionAttribute<InvocationCounters> INVOCATION = new ExecutionAttribute<>("MetricsInterceptor.Invocation");
+    private static final ExecutionAttribute<Long> START_TIME = new ExecutionAttribute<>("MetricsInterceptor.StartTime");
+    private static final ExecutionAttribute<Long> ATTEMPT_START_TIME = new ExecutionAttribute<>("MetricsInterceptor.AttemptStartTime");
+    private static final ExecutionAttribute<Long> ATTEMPT_PACING_DELAY = new ExecutionAttribute<>("MetricsInterceptor.AttemptPacingDelay");
+    private static final ExecutionAttribute<Long> FIRST_ATTEMPT_LATENCY = new ExecutionAttribute<>("MetricsInterceptor.FirstAttemptLatency");
+    private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("MetricsInterceptor.Attempts");
+    private static final ExecutionAttribute<Integer> THROTTLES = new ExecutionAttribute<>("MetricsInterceptor.Throttles");
+    private static final ExecutionAttribute<Integer> STATUS_CODE = new ExecutionAttribute<>("MetricsInterceptor.StatusCode");
+    private static final ExecutionAttribute<Long> BYTES_OUT = new ExecutionAttribute<>("MetricsInterceptor.BytesOut");
+    private static final ExecutionAttribute<Long> BYTES_IN = new ExecutionAttribute<>("MetricsInterceptor.BytesIn");
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        InvocationCounters.recordApiCall();
+        final InvocationCounters invocation = InvocationCounters.current();
+        if (invocation != null) {
+            executionAttributes.putAttribute(INVOCATION, invocation);
+        }
+        executionAttributes.putAttribute(START_TIME, System.nanoTime());
+        executionAttributes.putAttribute(ATTEMPTS, 0);
+        executionAttributes.putAttribute(THROTTLES, 0);
+        executionAttributes.putAttribute(BYTES_OUT, 0L);
+        executionAttributes.putAttribute(BYTES_IN, 0L);
+    }
+
+    /**
+     * Called before every attempt, including retries
+     */
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(ATTEMPT_START_TIME, System.nanoTime());
+        // The adaptive strategy may wait for a send slot after this interceptor, which is counted as part of the attempt
+        executionAttributes.putAttribute(ATTEMPT_PACING_DELAY, pacingDelay(executionAttributes));
+        increment(executionAttributes, ATTEMPTS);
+        add(executionAttributes, BYTES_OUT, contentLength(context.httpRequest()));
+    }
+
+    /**
+     * Called after every attempt that received a response, including error responses
+     */
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context, final ExecutionAttributes executionAttributes) {
+        final Integer attempts = executionAttributes.getAttribute(ATTEMPTS);
+        final Long attemptStartTime = executionAttributes.getAttribute(ATTEMPT_START_TIME);
+        final Long attemptPacingStart = executionAttributes.getAttribute(ATTEMPT_PACING_DELAY);
+        if (attempts != null && attempts == 1 && attemptStartTime != null && attemptPacingStart != null) {
+            final long attemptPacingDelay = pacingDelay(executionAttributes) - attemptPacingStart;
+            executionAttributes.putAttribute(FIRST_ATTEMPT_LATENCY, System.nanoTime() - attemptStartTime - attemptPacingDelay);
+        }
+
+        executionAttributes.putAttribute(STATUS_CODE, context.httpResponse().statusCode());
+        add(executionAttributes, BYTES_IN, contentLength(context.httpResponse()));
+        if (isThrottled(context.httpResponse().statusCode(), context.httpResponse().firstMatchingHeader(ERROR_TYPE))) {
+            increment(executionAttributes, THROTTLES);
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        publish(executionAttributes, false);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        // The error type header is not sent by every protocol, so make sure a call that failed on throttling is counted once
+        final Integer throttles = executionAttributes.getAttribute(THROTTLES);
+        if ((throttles == null || throttles == 0) && RetryUtils.isThrottlingException(context.exception())) {
+            increment(executionAttributes, THROTTLES);
+        }
+
+        publish(executionAttributes, true);
+    }
+
+    private static void publish(final ExecutionAttributes executionAttributes, final boolean failed) {
+        final Long startTime = executionAttributes.getAttribute(START_TIME);
+        final InvocationCounters invocation = executionAttributes.getAttribute(INVOCATION);
+        if (startTime == null || invocation == null) {
+            return;
+        }
+
+        try {
+            final String prefix = MetricKey.name(SERVICE, String.valueOf(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME)));
+            final long pacingDelay = pacingDelay(executionAttributes);
+            final long latency = toMillis(System.nanoTime() - startTime - pacingDelay);
+            final Long firstAttemptLatency = executionAttributes.getAttribute(FIRST_ATTEMPT_LATENCY);
+            final double attempts = valueOf(executionAttributes.getAttribute(ATTEMPTS));
+            final double throttles = valueOf(executionAttributes.getAttribute(THROTTLES));
+            final double bytesOut = valueOf(executionAttributes.getAttribute(BYTES_OUT));
+            final double bytesIn = valueOf(executionAttributes.getAttribute(BYTES_IN));
+            final Integer statusCode = executionAttributes.getAttribute(STATUS_CODE);
+
+            final Consumer<MetricsLogger> publisher = metrics -> {
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "Latency", Unit.MILLISECONDS), latency);
+                if (firstAttemptLatency != null) {
+                    MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "FirstAttemptLatency", Unit.MILLISECONDS), toMillis(firstAttemptLatency));
+                }
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "PacingDelay", Unit.MILLISECONDS), toMillis(pacingDelay));
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "Attempts", Unit.COUNT), attempts);
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "Throttles", Unit.COUNT), throttles);
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "Fault", Unit.COUNT), failed ? 1 : 0);
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "RequestBytes", Unit.BYTES), bytesOut);
+                MetricsHelper.putMetric(metrics, MetricKey.of(prefix, "ResponseBytes", Unit.BYTES), bytesIn);
+                MetricsHelper.putProperty(metrics, MetricKey.name(prefix, "StatusCode"), statusCode);
+            };
+
+            invocation.recordServiceCall(publisher);
+        } catch (final Exception ex) {
+            log.error("Failed to publish service call metrics", ex);
+        }
+    }
+
+    private static long pacingDelay(final ExecutionAttributes executionAttributes) {
+        final Long pacingDelay = executionAttributes.getAttribute(AdaptiveRetryStrategy.PACING_DELAY);
+        return pacingDelay == null ? 0L : pacingDelay;
+    }
+
+    private static boolean isThrottled(final int statusCode, final Optional<String> errorType) {
+        return statusCode == HttpStatusCode.THROTTLING || errorType.map(type -> type.startsWith(THROTTLING)).orElse(false);
+    }
+
+    private static long contentLength(final SdkHttpHeaders headers) {
+        return headers.firstMatchingHeader(CONTENT_LENGTH).map(MetricsInterceptor::parseLong).orElse(0L);
+    }
+
+    private static long parseLong(final String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private static void increment(final ExecutionAttributes executionAttributes, final ExecutionAttribute<Integer> attribute) {
+        final Integer value = executionAttributes.getAttribute(attribute);
+        executionAttributes.putAttribute(attribute, value == null ? 1 : value + 1);
+    }
+
+    private static void add(final ExecutionAttributes executionAttributes, final ExecutionAttribute<Long> attribute, final long delta) {
+        final Long value = executionAttributes.getAttribute(attribute);
+        executionAttributes.putAttribute(attribute, value == null ? delta : value + delta);
+    }
+
+    private static double valueOf(final Number value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+
+    private static long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,161 @@
+package software.amazon.logs.common;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Drives a nextToken pagination loop within the time left to a handler invocation.
+ *
+ * Before fetching another page, the driver checks that the remaining budget still covers the slowest page seen so far plus a
+ * safety margin. When it does not, the scan is suspended and the token of the next page is returned as a cursor, so the handler
+ * can save it in its CallbackContext and resume on the next callback instead of running past the invocation deadline and
+ * starting over from the first page. The first page of an invocation is always fetched, so every invocation makes progress.
+ *
+ * A driver is created once per invocation and can be shared by several scans of that invocation. The handler wrapper does not
+ * expose the deadline of the Lambda invocation, so {@link #forInvocation(Duration)} derives it from the start of the invocation
+ * recorded by {@link MetricsHelper#instrument} and the timeout of the handler function. The safety margin also covers the time
+ * the wrapper spends before the handler is entered.
+ */
+public final class PaginationDriver {
+
+    static final Duration SAFETY_MARGIN = Duration.ofSeconds(5);
+
+    private final LongSupplier clock;
+    private final long deadline;
+    private long slowestPageMillis;
+    private int pagesScanned;
+
+    /**
+     * @param timeBudget time the invocation may spend paginating, starting now
+     */
+    public PaginationDriver(@NonNull final Duration timeBudget) {
+        this(timeBudget, System::currentTimeMillis);
+    }
+
+    PaginationDriver(@NonNull final Duration timeBudget, @NonNull final LongSupplier clock) {
+        this(clock, clock.getAsLong() + timeBudget.toMillis());
+    }
+
+    private PaginationDriver(final LongSupplier clock, final long deadline) {
+        this.clock = clock;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates the driver of the invocation running on the current thread, whose deadline is the handler timeout after the
+     * invocation started. Outside of an instrumented invocation, the timeout starts now.
+     *
+     * @param handlerTimeout timeout of the handler function
+     * @return a driver paginating until shortly before the invocation times out
+     */
+    public static PaginationDriver forInvocation(@NonNull final Duration handlerTimeout) {
+        return forInvocation(handlerTimeout, System::currentTimeMillis);
+    }
+
+    static PaginationDriver forInvocation(@NonNull final Duration handlerTimeout, @NonNull final LongSupplier clock) {
+        final InvocationCounters invocation = InvocationCounters.current();
+        final long startTime = invocation == null ? clock.getAsLong() : invocation.getStartTimeMillis();
+        return new PaginationDriver(clock, startTime + handlerTimeout.toMillis());
+    }
+
+    /**
+     * Fetches pages until the page handler asks to stop, the last page is reached, or the time budget runs low
+     *
+     * @param cursor      token of the page to start from, or null to start from the first page
+     * @param fetchPage   fetches the page for a token, e.g. a describe call through the CloudFormation proxy
+     * @param nextTokenOf extracts the token of the next page from a response
+     * @param pageHandler consumes a page and returns true once the scan can stop, e.g. when the resource was found
+     * @return the outcome of the scan, holding the cursor to resume from when it was suspended
+     */
+    public <ResponseT> Outcome paginate(
+        final String cursor,
+        @NonNull final Function<String, ResponseT> fetchPage,
+        @NonNull final Function<ResponseT, String> nextTokenOf,
+        @NonNull final Predicate<ResponseT> pageHandler
+    ) {
+        String nextToken = cursor;
+        boolean firstPage = true;
+
+        do {
+            if (!firstPage && !hasTimeForAnotherPage()) {
+                return Outcome.suspended(nextToken);
+            }
+            firstPage = false;
+
+            final long startTime = clock.getAsLong();
+            final ResponseT response = fetchPage.apply(nextToken);
+            slowestPageMillis = Math.max(slowestPageMillis, clock.getAsLong() - startTime);
+            pagesScanned++;
+            InvocationCounters.recordPageScanned();
+
+            if (pageHandler.test(response)) {
+                return Outcome.stopped();
+            }
+
+            nextToken = nextTokenOf.apply(response);
+        } while (nextToken != null);
+
+        return Outcome.exhausted();
+    }
+
+    /**
+     * @return milliseconds left in the time budget, negative once it is spent
+     */
+    public long getRemainingTimeMillis() {
+        return deadline - clock.getAsLong();
+    }
+
+    /**
+     * @return number of pages fetched by this driver so far
+     */
+    public int getPagesScanned() {
+        return pagesScanned;
+    }
+
+    private boolean hasTimeForAnotherPage() {
+        return getRemainingTimeMillis() > slowestPageMillis + SAFETY_MARGIN.toMillis();
+    }
+
+    /**
+     * Outcome of a paginated scan
+     */
+    @Value
+    public static class Outcome {
+
+        public enum Status {
+            /** The page handler stopped the scan */
+            STOPPED,
+            /** Every page was scanned */
+            EXHAUSTED,
+            /** The time budget ran low, the scan can be resumed from the cursor */
+            SUSPENDED
+        }
+
+        Status status;
+        String cursor;
+
+        static Outcome stopped() {
+            return new Outcome(Status.STOPPED, null);
+        }
+
+        static Outcome exhausted() {
+            return new Outcome(Status.EXHAUSTED, null);
+        }
+
+        static Outcome suspended(final String cursor) {
+            return new Outcome(Status.SUSPENDED, cursor);
+        }
+
+        public boolean isStopped() {
+            return status == Status.STOPPED;
+        }
+
+        public boolean isSuspended() {
+            return status == Status.SUSPENDED;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package software.amazon.logs.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+/**
+ * ProxyClient decorator that takes a permit from a {@link TokenBucketRateLimiter} before every call, keyed by the account
+ * and region of the handler request and by the API of the call. The time spent waiting is published as a metric.
+ */
+public final class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    static final String WAIT_TIME_METRIC = "RateLimiter.WaitTime";
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final ProxyClient<ClientT> delegate;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final String accountId;
+    private final String region;
+    private final MetricsLogger metrics;
+
+    RateLimitedProxyClient(
+        final ProxyClient<ClientT> delegate,
+        final TokenBucketRateLimiter rateLimiter,
+        final String accountId,
+        final String region,
+        final MetricsLogger metrics
+    ) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.accountId = accountId;
+        this.region = region;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps a ProxyClient with the shared rate limiter
+     *
+     * @param delegate ProxyClient making the calls
+     * @param request  handler request, used for the account and region of the calls
+     * @param metrics  EMF MetricsLogger object the wait time is published to, or null to skip the metric
+     * @return a rate limited ProxyClient
+     */
+    public static <ClientT> ProxyClient<ClientT> wrap(
+        final ProxyClient<ClientT> delegate,
+        final ResourceHandlerRequest<?> request,
+        final MetricsLogger metrics
+    ) {
+        return new RateLimitedProxyClient<>(delegate, TokenBucketRateLimiter.shared(), request.getAwsAccountId(), request.getRegion(), metrics);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction
+    ) {
+        acquire(request);
+        return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        acquire(request);
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    /**
+     * Only the first page is rate limited, later pages are fetched lazily by the SDK iterable
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction
+    ) {
+        acquire(request);
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private void acquire(final AwsRequest request) {
+        final long waitTime = rateLimiter.acquire(accountId, region, apiFamily(request));
+        if (metrics != null) {
+            MetricsHelper.putMetric(metrics, WAIT_TIME_METRIC, waitTime, Unit.MILLISECONDS);
+        }
+    }
+
+    // DescribeMetricFiltersRequest -> DescribeMetricFilters
+    static String apiFamily(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith(REQUEST_SUFFIX)
+            ? requestName.substring(0, requestName.length() - REQUEST_SUFFIX.length())
+            : requestName;
+    }
+}
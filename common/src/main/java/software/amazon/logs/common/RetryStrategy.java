@@ -0,0 +1,24 @@
+package software.amazon.logs.common;
+
+import lombok.NonNull;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+
+/**
+ * Retry strategies a module can select for the clients it gets from {@link ClientRegistry}
+ */
+public enum RetryStrategy {
+    /** The retry policy of the override configuration is used as is */
+    FIXED,
+    /** The retry policy of the override configuration is paced by an {@link AdaptiveRetryStrategy} owned by the client */
+    ADAPTIVE;
+
+    /**
+     * Applies the strategy to the override configuration of a new client
+     *
+     * @param configuration override configuration of the client
+     * @return the configuration to build the client with
+     */
+    public ClientOverrideConfiguration apply(@NonNull final ClientOverrideConfiguration configuration) {
+        return this == ADAPTIVE ? AdaptiveRetryStrategy.apply(configuration) : configuration;
+    }
+}
@@ -0,0 +1,181 @@
+package software.amazon.logs.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+/**
+ * Helper class to issue CloudWatch Logs calls through the CloudFormation proxy, either on the calling thread or through an async client.
+ * Both paths return a CompletableFuture and inject credentials through {@link AmazonWebServicesClientProxy}, so handler code does not
+ * depend on which one is used.
+ */
+public final class ServiceCallHelper {
+
+    private ServiceCallHelper() {}
+
+    /**
+     * Issues a service call. When an async call is given, it is sent through the non-blocking client and the future completes
+     * once the response arrives. Otherwise the sync call runs on the calling thread and an already completed future is returned.
+     *
+     * @param proxy     CloudFormation proxy used to inject credentials
+     * @param request   CWL request object
+     * @param syncCall  sync client method, e.g. {@code client::listTagsLogGroup}
+     * @param asyncCall async client method, or null to use the sync path
+     * @return a future holding the response, or the exception thrown by the call
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invoke(
+        @NonNull final AmazonWebServicesClientProxy proxy,
+        @NonNull final RequestT request,
+        @NonNull final Function<RequestT, ResponseT> syncCall,
+        final Function<RequestT, CompletableFuture<ResponseT>> asyncCall
+    ) {
+        if (asyncCall != null) {
+            return proxy.injectCredentialsAndInvokeV2Async(request, asyncCall);
+        }
+
+        final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        try {
+            future.complete(proxy.injectCredentialsAndInvokeV2(request, syncCall));
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Issues one service call per request with at most {@code maxConcurrency} calls in flight, and returns the responses in request order.
+     * No new call is started once a call has failed, the calls still in flight are cancelled and the first failure is rethrown.
+     *
+     * @param proxy          CloudFormation proxy used to inject credentials
+     * @param requests       CWL request objects
+     * @param syncCall       sync client method
+     * @param asyncCall      async client method, or null to issue the calls one by one on the calling thread
+     * @param maxConcurrency maximum number of calls in flight
+     * @return the responses of the calls, in request order
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> List<ResponseT> invokeAll(
+        @NonNull final AmazonWebServicesClientProxy proxy,
+        @NonNull final List<RequestT> requests,
+        @NonNull final Function<RequestT, ResponseT> syncCall,
+        final Function<RequestT, CompletableFuture<ResponseT>> asyncCall,
+        final int maxConcurrency
+    ) {
+        return invokeAll(proxy, requests, syncCall, asyncCall, maxConcurrency, request -> {});
+    }
+
+    /**
+     * Issues one service call per request with at most {@code maxConcurrency} calls in flight, and returns the responses in request order.
+     * No new call is started once a call has failed, the calls still in flight are cancelled and the first failure is rethrown.
+     *
+     * The concurrency only bounds the calls in flight, not their rate, so calls to rate limited APIs are paced by
+     * {@code beforeCall}, e.g. by taking a permit from a {@link TokenBucketRateLimiter}. It runs on the calling thread before
+     * each call is started.
+     *
+     * @param proxy          CloudFormation proxy used to inject credentials
+     * @param requests       CWL request objects
+     * @param syncCall       sync client method
+     * @param asyncCall      async client method, or null to issue the calls one by one on the calling thread
+     * @param maxConcurrency maximum number of calls in flight
+     * @param beforeCall     run before each call is started
+     * @return the responses of the calls, in request order
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> List<ResponseT> invokeAll(
+        @NonNull final AmazonWebServicesClientProxy proxy,
+        @NonNull final List<RequestT> requests,
+        @NonNull final Function<RequestT, ResponseT> syncCall,
+        final Function<RequestT, CompletableFuture<ResponseT>> asyncCall,
+        final int maxConcurrency,
+        @NonNull final Consumer<RequestT> beforeCall
+    ) {
+        final Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final List<CompletableFuture<ResponseT>> futures = new ArrayList<>(requests.size());
+
+        for (final RequestT request : requests) {
+            permits.acquireUninterruptibly();
+            if (failed.get()) {
+                break;
+            }
+
+            beforeCall.accept(request);
+            final CompletableFuture<ResponseT> future = invoke(proxy, request, syncCall, asyncCall);
+            future.whenComplete((response, exception) -> {
+                if (exception != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            futures.add(future);
+        }
+
+        return joinAll(futures);
+    }
+
+    /**
+     * Waits for a future and rethrows the original exception of a failed call, so callers can keep catching service exceptions
+     *
+     * @param future of a service call
+     * @return the response of the call
+     */
+    public static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits for all futures and returns their results in the same order. As soon as one of them fails, the others are
+     * cancelled and the exception of the first future to fail is rethrown, whatever its position in the list.
+     *
+     * @param futures of service calls
+     * @return the responses of the calls, in order
+     */
+    public static <T> List<T> joinAll(final List<CompletableFuture<T>> futures) {
+        final CompletableFuture<Void> outcome = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(futures.size());
+        if (futures.isEmpty()) {
+            outcome.complete(null);
+        }
+
+        // Completing the outcome from each future, rather than through CompletableFuture.allOf, keeps the first failure first
+        for (final CompletableFuture<T> future : futures) {
+            future.whenComplete((result, exception) -> {
+                if (exception != null) {
+                    outcome.completeExceptionally(exception instanceof CompletionException && exception.getCause() != null
+                        ? exception.getCause()
+                        : exception);
+                } else if (pending.decrementAndGet() == 0) {
+                    outcome.complete(null);
+                }
+            });
+        }
+
+        try {
+            join(outcome);
+        } catch (final RuntimeException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+
+        final List<T> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.logs.common;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which exceptions get their stack trace published, and renders it within a fixed size.
+ *
+ * The first exception of each class seen by the container is always captured, then one in {@link #SAMPLE_RATE}. The rendered
+ * trace keeps at most {@link #MAX_FRAMES} frames per exception and {@link #MAX_CAUSES} causes, and is cut at {@link #MAX_LENGTH}
+ * characters, so a deep SDK stack does not dominate the allocation of a failed invocation.
+ */
+final class StackTraceSampler {
+
+    static final int SAMPLE_RATE = 10;
+    static final int MAX_FRAMES = 32;
+    static final int MAX_CAUSES = 4;
+    static final int MAX_LENGTH = 8192;
+    private static final int MAX_EXCEPTION_CLASSES = 256;
+
+    private static final ConcurrentMap<Class<?>, AtomicLong> OCCURRENCES = new ConcurrentHashMap<>();
+    private static final AtomicLong OTHER_OCCURRENCES = new AtomicLong();
+
+    private StackTraceSampler() {}
+
+    /**
+     * @param throwable to publish
+     * @return true if the stack trace of this occurrence should be captured
+     */
+    static boolean shouldCapture(final Throwable throwable) {
+        return occurrences(throwable.getClass()).getAndIncrement() % SAMPLE_RATE == 0;
+    }
+
+    /**
+     * Renders the stack trace of a throwable and its causes, in the format of {@link Throwable#printStackTrace()} but bounded
+     *
+     * @param throwable to render
+     * @return the bounded stack trace
+     */
+    static String render(final Throwable throwable) {
+        final StringBuilder builder = new StringBuilder(1024);
+        final Map<Throwable, Boolean> seen = new IdentityHashMap<>();
+
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth <= MAX_CAUSES && seen.put(current, Boolean.TRUE) == null; depth++) {
+            if (depth > 0) {
+                builder.append("Caused by: ");
+            }
+            builder.append(current).append('\n');
+
+            final StackTraceElement[] frames = current.getStackTrace();
+            final int frameCount = Math.min(frames.length, MAX_FRAMES);
+            for (int i = 0; i < frameCount && builder.length() < MAX_LENGTH; i++) {
+                builder.append("\tat ").append(frames[i]).append('\n');
+            }
+            if (frames.length > frameCount) {
+                builder.append("\t... ").append(frames.length - frameCount).append(" more\n");
+            }
+            if (builder.length() >= MAX_LENGTH) {
+                break;
+            }
+
+            current = current.getCause();
+        }
+
+        if (builder.length() > MAX_LENGTH) {
+            builder.setLength(MAX_LENGTH);
+        }
+        return builder.toString();
+    }
+
+    private static AtomicLong occurrences(final Class<?> exceptionClass) {
+        final AtomicLong occurrences = OCCURRENCES.get(exceptionClass);
+        if (occurrences != null) {
+            return occurrences;
+        }
+        if (OCCURRENCES.size() >= MAX_EXCEPTION_CLASSES) {
+            return OTHER_OCCURRENCES;
+        }
+        return OCCURRENCES.computeIfAbsent(exceptionClass, c -> new AtomicLong());
+    }
+}
@@ -0,0 +1,131 @@
+package software.amazon.logs.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * Client-side token bucket rate limiter, keyed by account, region and API family.
+ *
+ * Control plane APIs have a burst limit of 10 and rate limit of 5, so callers wait here for a permit instead of sending
+ * requests the service would throttle and spending retries and handler time on them. A caller that finds the bucket empty
+ * reserves the next permit and sleeps until it is available, so waiting callers are served in order.
+ */
+@Slf4j
+public final class TokenBucketRateLimiter {
+
+    public static final double DEFAULT_PERMITS_PER_SECOND = 5;
+    public static final int DEFAULT_BURST = 10;
+
+    private static final TokenBucketRateLimiter SHARED = new TokenBucketRateLimiter(DEFAULT_PERMITS_PER_SECOND, DEFAULT_BURST);
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<RateLimitKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerSecond rate at which permits are refilled
+     * @param burst            maximum number of permits available at once
+     */
+    public TokenBucketRateLimiter(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(final double permitsPerSecond, final int burst, @NonNull final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(String.format("Invalid rate limit: rate [%s], burst [%s]", permitsPerSecond, burst));
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the limiter shared by every handler of the process, using the control plane limits
+     */
+    public static TokenBucketRateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * Takes a permit for the given key, waiting until one is available
+     *
+     * @param accountId AWS account of the caller
+     * @param region    of the calls
+     * @param apiFamily name of the API the permit is for, e.g. DescribeMetricFilters
+     * @return time spent waiting for the permit, in milliseconds
+     */
+    public long acquire(final String accountId, final String region, @NonNull final String apiFamily) {
+        final long waitNanos = reserve(accountId, region, apiFamily);
+        if (waitNanos <= 0) {
+            return 0;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (final InterruptedException ex) {
+            log.warn("Interrupted while waiting for a [{}] permit", apiFamily);
+            Thread.currentThread().interrupt();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * Takes a permit for the API of the given request, waiting until one is available
+     *
+     * @param accountId AWS account of the caller
+     * @param region    of the call
+     * @param request   CWL request object the permit is for
+     * @return time spent waiting for the permit, in milliseconds
+     */
+    public long acquire(final String accountId, final String region, @NonNull final AwsRequest request) {
+        return acquire(accountId, region, RateLimitedProxyClient.apiFamily(request));
+    }
+
+    /**
+     * Takes a permit for the given key without waiting for it
+     *
+     * @return nanoseconds until the permit is available, 0 if it is available now
+     */
+    long reserve(final String accountId, final String region, @NonNull final String apiFamily) {
+        final Bucket bucket = buckets.computeIfAbsent(new RateLimitKey(accountId, region, apiFamily), key -> new Bucket());
+        return bucket.reserve(nanoClock.getAsLong());
+    }
+
+    private final class Bucket {
+
+        private double permits = burst;
+        private long lastRefillNanos = nanoClock.getAsLong();
+
+        /**
+         * Takes a permit, letting the balance go negative when the bucket is empty
+         *
+         * @return nanoseconds until the reserved permit is available
+         */
+        synchronized long reserve(final long nowNanos) {
+            final double refilled = (nowNanos - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            permits = Math.min(burst, permits + refilled);
+            lastRefillNanos = nowNanos;
+
+            permits -= 1;
+            if (permits >= 0) {
+                return 0;
+            }
+            return (long) (-permits * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
+    }
+
+    @Value
+    private static class RateLimitKey {
+
+        String accountId;
+        String region;
+        String apiFamily;
+    }
+}
@@ -0,0 +1,108 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+class AdaptiveRetryStrategyTest {
+
+    private final AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy();
+
+    @Test
+    void maxSendRate_IsTheTokenBucketRate() {
+        assertThat(AdaptiveRetryStrategy.MAX_SEND_RATE).isEqualTo(TokenBucketRateLimiter.DEFAULT_PERMITS_PER_SECOND);
+    }
+
+    @Test
+    void reserveSendSlot_Unpaced_UntilThrottled() {
+        assertThat(strategy.isPacing()).isFalse();
+        assertThat(strategy.reserveSendSlot(0)).isZero();
+        assertThat(strategy.reserveSendSlot(0)).isZero();
+    }
+
+    @Test
+    void onThrottle_HalvesSendRate_DownToMin() {
+        strategy.onThrottle();
+
+        assertThat(strategy.isPacing()).isTrue();
+        assertThat(strategy.getSendRate()).isEqualTo(AdaptiveRetryStrategy.MAX_SEND_RATE * AdaptiveRetryStrategy.MULTIPLICATIVE_DECREASE);
+
+        for (int i = 0; i < 10; i++) {
+            strategy.onThrottle();
+        }
+        assertThat(strategy.getSendRate()).isEqualTo(AdaptiveRetryStrategy.MIN_SEND_RATE);
+    }
+
+    @Test
+    void onSuccess_RaisesSendRate_UpToMax() {
+        strategy.onThrottle();
+        final double throttledRate = strategy.getSendRate();
+
+        strategy.onSuccess();
+        assertThat(strategy.getSendRate()).isEqualTo(throttledRate + AdaptiveRetryStrategy.ADDITIVE_INCREASE);
+        assertThat(strategy.isPacing()).isTrue();
+
+        for (int i = 0; i < 100; i++) {
+            strategy.onSuccess();
+        }
+        assertThat(strategy.getSendRate()).isEqualTo(AdaptiveRetryStrategy.MAX_SEND_RATE);
+        assertThat(strategy.isPacing()).isFalse();
+    }
+
+    @Test
+    void onSuccess_Unpaced_KeepsMaxSendRate() {
+        strategy.onSuccess();
+
+        assertThat(strategy.getSendRate()).isEqualTo(AdaptiveRetryStrategy.MAX_SEND_RATE);
+        assertThat(strategy.isPacing()).isFalse();
+    }
+
+    @Test
+    void reserveSendSlot_SpacesSlotsBySendRate() {
+        strategy.onThrottle();
+        final long interval = (long) (TimeUnit.SECONDS.toNanos(1) / strategy.getSendRate());
+
+        assertThat(strategy.reserveSendSlot(0)).isZero();
+        assertThat(strategy.reserveSendSlot(0)).isEqualTo(interval);
+        assertThat(strategy.reserveSendSlot(interval)).isEqualTo(interval);
+        // An idle client does not bank slots
+        assertThat(strategy.reserveSendSlot(10 * interval)).isZero();
+    }
+
+    @Test
+    void apply_FeedsThrottlesIntoSendRate() {
+        final ClientOverrideConfiguration configuration = AdaptiveRetryStrategy.apply(ClientOverrideConfiguration.builder().build());
+        final AdaptiveRetryStrategy appliedStrategy = (AdaptiveRetryStrategy) configuration.executionInterceptors().get(0);
+        final RetryCondition retryCondition = configuration.retryPolicy().get().retryCondition();
+
+        final AwsServiceException throttlingException = AwsServiceException
+            .builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+            .build();
+        retryCondition.shouldRetry(RetryPolicyContext.builder().exception(throttlingException).build());
+
+        assertThat(appliedStrategy.isPacing()).isTrue();
+        assertThat(appliedStrategy.getSendRate()).isLessThan(AdaptiveRetryStrategy.MAX_SEND_RATE);
+    }
+
+    @Test
+    void beforeTransmission_RecordsPacingDelay_OfCall() {
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        strategy.onThrottle();
+
+        strategy.beforeTransmission(null, executionAttributes);
+        assertThat(executionAttributes.getAttribute(AdaptiveRetryStrategy.PACING_DELAY)).isNull();
+
+        // The second attempt waits for the slot after the first one
+        strategy.beforeTransmission(null, executionAttributes);
+        assertThat(executionAttributes.getAttribute(AdaptiveRetryStrategy.PACING_DELAY)).isPositive();
+    }
+}
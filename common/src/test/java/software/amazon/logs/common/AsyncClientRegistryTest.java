@@ -0,0 +1,105 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+
+class AsyncClientRegistryTest {
+
+    private static final String REGION = "us-east-1";
+    private static final String RETRY_PROFILE = "profile";
+
+    private static final ClientOverrideConfiguration CONFIGURATION = ClientOverrideConfiguration.builder().build();
+
+    private final List<CloudWatchLogsAsyncClient> builtClients = new ArrayList<>();
+    private final List<ClientOverrideConfiguration> builtConfigurations = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        AsyncClientRegistry.clear();
+    }
+
+    @Test
+    void getClient_ReusesClient_OfSameKey() {
+        final CloudWatchLogsAsyncClient client = AsyncClientRegistry.getClient(key(RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+
+        assertThat(AsyncClientRegistry.getClient(key(RetryStrategy.FIXED), CONFIGURATION, this::buildClient)).isSameAs(client);
+        assertThat(AsyncClientRegistry.getClient(key(RetryStrategy.ADAPTIVE), CONFIGURATION, this::buildClient)).isNotSameAs(client);
+        assertThat(builtClients).hasSize(2);
+    }
+
+    @Test
+    void getClient_AppliesAdaptiveRetryStrategy() {
+        AsyncClientRegistry.getClient(key(RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        AsyncClientRegistry.getClient(key(RetryStrategy.ADAPTIVE), CONFIGURATION, this::buildClient);
+
+        assertThat(builtConfigurations.get(0)).isSameAs(CONFIGURATION);
+        assertThat(builtConfigurations.get(1).executionInterceptors()).hasAtLeastOneElementOfType(AdaptiveRetryStrategy.class);
+        assertThat(builtConfigurations.get(1).retryPolicy()).isPresent();
+    }
+
+    @Test
+    void getClient_ClosesLosingClient_When_RegisteredConcurrently() throws Exception {
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch registered = new CountDownLatch(1);
+        final CloudWatchLogsAsyncClient losingClient = mock(CloudWatchLogsAsyncClient.class);
+        final BiFunction<AsyncClientRegistry.ClientKey, ClientOverrideConfiguration, CloudWatchLogsAsyncClient> slowFactory = (
+            k,
+            configuration
+        ) -> {
+            building.countDown();
+            await(registered);
+            return losingClient;
+        };
+
+        final CompletableFuture<CloudWatchLogsAsyncClient> slowGet = CompletableFuture.supplyAsync(
+            () -> AsyncClientRegistry.getClient(key(RetryStrategy.FIXED), CONFIGURATION, slowFactory)
+        );
+        await(building);
+        final CloudWatchLogsAsyncClient winningClient = AsyncClientRegistry.getClient(
+            key(RetryStrategy.FIXED),
+            CONFIGURATION,
+            this::buildClient
+        );
+        registered.countDown();
+
+        assertThat(slowGet.get(5, TimeUnit.SECONDS)).isSameAs(winningClient);
+        verify(losingClient).close();
+        verify(winningClient, never()).close();
+    }
+
+    private static AsyncClientRegistry.ClientKey key(final RetryStrategy retryStrategy) {
+        return new AsyncClientRegistry.ClientKey(REGION, RETRY_PROFILE, retryStrategy);
+    }
+
+    private CloudWatchLogsAsyncClient buildClient(
+        final AsyncClientRegistry.ClientKey key,
+        final ClientOverrideConfiguration configuration
+    ) {
+        final CloudWatchLogsAsyncClient client = mock(CloudWatchLogsAsyncClient.class);
+        builtClients.add(client);
+        builtConfigurations.add(configuration);
+        return client;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class AsyncMetricsFlusherTest {
+
+    private final CountDownLatch flushStarted = new CountDownLatch(1);
+    private final CountDownLatch flushReleased = new CountDownLatch(1);
+    private final List<MetricsLogger> droppedMetrics = Collections.synchronizedList(new ArrayList<>());
+
+    private AsyncMetricsFlusher flusher;
+    private MetricsLogger blockingMetrics;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        flusher = new AsyncMetricsFlusher(1, () -> {
+            final MetricsLogger metrics = mock(MetricsLogger.class);
+            droppedMetrics.add(metrics);
+            return metrics;
+        });
+
+        // Keeps the background thread busy writing the first logger until released
+        blockingMetrics = mock(MetricsLogger.class);
+        doAnswer(invocation -> {
+            flushStarted.countDown();
+            flushReleased.await();
+            return null;
+        }).when(blockingMetrics).flush();
+        flusher.submit(blockingMetrics);
+        assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        flushReleased.countDown();
+        flusher.shutdown(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void submit_DropsAndCounts_When_QueueIsFull() {
+        final MetricsLogger queuedMetrics = mock(MetricsLogger.class);
+        final MetricsLogger overflowMetrics = mock(MetricsLogger.class);
+
+        assertThat(flusher.submit(queuedMetrics)).isTrue();
+        assertThat(flusher.submit(overflowMetrics)).isFalse();
+        assertThat(flusher.submit(overflowMetrics)).isFalse();
+
+        assertThat(flusher.getDroppedCount()).isEqualTo(2);
+        verify(overflowMetrics, never()).flush();
+    }
+
+    @Test
+    void drain_PublishesDroppedCount() {
+        flusher.submit(mock(MetricsLogger.class));
+        flusher.submit(mock(MetricsLogger.class));
+        flushReleased.countDown();
+
+        assertThat(flusher.drain(Duration.ofSeconds(5))).isTrue();
+        // The background thread may have published the count first, so wait for it to be done
+        flusher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(flusher.getDroppedCount()).isZero();
+        assertThat(droppedMetrics).hasSize(1);
+        verify(droppedMetrics.get(0)).putMetric("MetricsFlusher.Dropped", 1, Unit.COUNT, StorageResolution.STANDARD);
+        verify(droppedMetrics.get(0)).flush();
+    }
+
+    @Test
+    void drain_WritesQueuedLoggersOnCallingThread() {
+        final MetricsLogger queuedMetrics = mock(MetricsLogger.class);
+        flusher.submit(queuedMetrics);
+
+        // The background thread is still writing the first logger
+        assertThat(flusher.drain(Duration.ofMillis(100))).isFalse();
+        verify(queuedMetrics).flush();
+
+        flushReleased.countDown();
+        assertThat(flusher.drain(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void drain_WaitsForLoggerBeingWritten() throws Exception {
+        final Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            flushReleased.countDown();
+        });
+        releaser.start();
+
+        assertThat(flusher.drain(Duration.ofSeconds(5))).isTrue();
+        verify(blockingMetrics).flush();
+        releaser.join();
+    }
+}
@@ -0,0 +1,140 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class CachingProxyClientTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String LOG_GROUP_NAME = "LogGroup";
+
+    private static final DescribeMetricFiltersRequest DESCRIBE_REQUEST = DescribeMetricFiltersRequest
+        .builder()
+        .logGroupName(LOG_GROUP_NAME)
+        .filterNamePrefix("FilterName")
+        .build();
+    private static final DescribeMetricFiltersResponse DESCRIBE_RESPONSE = DescribeMetricFiltersResponse.builder().build();
+
+    @SuppressWarnings("unchecked")
+    private final ProxyClient<CloudWatchLogsClient> delegate = mock(ProxyClient.class);
+    private final MetricsLogger metrics = mock(MetricsLogger.class);
+    // The clock stands still, so entries never expire
+    private final LogGroupDescribeCache cache = new LogGroupDescribeCache(Duration.ofSeconds(5), 16, new AtomicLong()::get);
+    private final CachingProxyClient<CloudWatchLogsClient> client = new CachingProxyClient<>(delegate, cache, ACCOUNT_ID, REGION, metrics);
+
+    @BeforeEach
+    void setup() {
+        doReturn(DESCRIBE_RESPONSE).when(delegate).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2_ServesRepeatedDescribe_FromCache() {
+        assertThat(describe(client)).isSameAs(DESCRIBE_RESPONSE);
+        assertThat(describe(client)).isSameAs(DESCRIBE_RESPONSE);
+
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+        verifyHitPublished(0);
+        verifyHitPublished(1);
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2_InvalidatesDescribes_OnPut() {
+        final PutMetricFilterRequest request = PutMetricFilterRequest.builder().logGroupName(LOG_GROUP_NAME).build();
+        describe(client);
+
+        client.<PutMetricFilterRequest, PutMetricFilterResponse>injectCredentialsAndInvokeV2(request, r -> null);
+        describe(client);
+
+        verify(delegate).injectCredentialsAndInvokeV2(eq(request), any());
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2_InvalidatesDescribes_OnDelete() {
+        final DeleteMetricFilterRequest request = DeleteMetricFilterRequest.builder().logGroupName(LOG_GROUP_NAME).build();
+        describe(client);
+
+        client.<DeleteMetricFilterRequest, DeleteMetricFilterResponse>injectCredentialsAndInvokeV2(request, r -> null);
+        describe(client);
+
+        verify(delegate).injectCredentialsAndInvokeV2(eq(request), any());
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2_KeepsDescribes_OnWriteToOtherLogGroup() {
+        final PutMetricFilterRequest request = PutMetricFilterRequest.builder().logGroupName("OtherLogGroup").build();
+        describe(client);
+
+        client.<PutMetricFilterRequest, PutMetricFilterResponse>injectCredentialsAndInvokeV2(request, r -> null);
+        describe(client);
+
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2_DoesNotCache_When_WriteRacedDescribe() {
+        final PutMetricFilterRequest request = PutMetricFilterRequest.builder().logGroupName(LOG_GROUP_NAME).build();
+        final AtomicBoolean raced = new AtomicBoolean(false);
+        // The first describe is answered by the service, but the log group is written to before the response is back
+        doAnswer(invocation -> {
+                if (raced.compareAndSet(false, true)) {
+                    client.<PutMetricFilterRequest, PutMetricFilterResponse>injectCredentialsAndInvokeV2(request, r -> null);
+                }
+                return DESCRIBE_RESPONSE;
+            })
+            .when(delegate)
+            .injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+
+        describe(client);
+        describe(client);
+        describe(client);
+
+        // The response loaded during the write was not cached, the next one was
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+    }
+
+    @Test
+    void bypass_SendsDescribes_ToDelegate() {
+        assertThat(CachingProxyClient.bypass(client)).isSameAs(delegate);
+        assertThat(CachingProxyClient.bypass(delegate)).isSameAs(delegate);
+
+        describe(client);
+        describe(CachingProxyClient.bypass(client));
+
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(DESCRIBE_REQUEST), any());
+        verifyHitPublished(0);
+    }
+
+    private static DescribeMetricFiltersResponse describe(final ProxyClient<CloudWatchLogsClient> proxyClient) {
+        return proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, r -> DESCRIBE_RESPONSE);
+    }
+
+    private void verifyHitPublished(final double value) {
+        verify(metrics).putMetric(CachingProxyClient.HIT_METRIC.getName(), value, Unit.COUNT, StorageResolution.STANDARD);
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+
+class ClientRegistryTest {
+
+    private static final String REGION = "us-east-1";
+    private static final String RETRY_PROFILE = "profile";
+
+    private static final ClientOverrideConfiguration CONFIGURATION = ClientOverrideConfiguration.builder().build();
+
+    private final List<CloudWatchLogsClient> builtClients = new ArrayList<>();
+    private final List<ClientOverrideConfiguration> builtConfigurations = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ClientRegistry.clear();
+    }
+
+    @Test
+    void getClient_ReusesClient_OfSameKey() {
+        final ClientRegistry.ClientKey key = key(REGION, RetryStrategy.FIXED);
+
+        final CloudWatchLogsClient client = ClientRegistry.getClient(key, CONFIGURATION, this::buildClient);
+
+        assertThat(ClientRegistry.getClient(key(REGION, RetryStrategy.FIXED), CONFIGURATION, this::buildClient)).isSameAs(client);
+        assertThat(builtClients).hasSize(1);
+    }
+
+    @Test
+    void getClient_BuildsClientsApart_PerRegionAndRetryStrategy() {
+        final CloudWatchLogsClient client = ClientRegistry.getClient(key(REGION, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+
+        assertThat(ClientRegistry.getClient(key("us-west-2", RetryStrategy.FIXED), CONFIGURATION, this::buildClient)).isNotSameAs(client);
+        assertThat(ClientRegistry.getClient(key(REGION, RetryStrategy.ADAPTIVE), CONFIGURATION, this::buildClient)).isNotSameAs(client);
+        final ClientRegistry.ClientKey otherProfileKey = new ClientRegistry.ClientKey(REGION, "other", RetryStrategy.FIXED);
+        assertThat(ClientRegistry.getClient(otherProfileKey, CONFIGURATION, this::buildClient)).isNotSameAs(client);
+        assertThat(builtClients).hasSize(4);
+    }
+
+    @Test
+    void getClient_AppliesRetryStrategy_OfKey() {
+        ClientRegistry.getClient(key(REGION, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        ClientRegistry.getClient(key(REGION, RetryStrategy.ADAPTIVE), CONFIGURATION, this::buildClient);
+
+        assertThat(builtConfigurations.get(0)).isSameAs(CONFIGURATION);
+        assertThat(builtConfigurations.get(1).executionInterceptors()).hasAtLeastOneElementOfType(AdaptiveRetryStrategy.class);
+    }
+
+    @Test
+    void getClient_EvictsLeastRecentlyUsedClient_WithoutClosingIt() {
+        for (int i = 0; i < ClientRegistry.MAX_CLIENTS; i++) {
+            ClientRegistry.getClient(key("region-" + i, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        }
+        // Touching the eldest client makes region-1 the least recently used one
+        ClientRegistry.getClient(key("region-0", RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+
+        ClientRegistry.getClient(key("region-" + ClientRegistry.MAX_CLIENTS, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+
+        assertThat(builtClients).hasSize(ClientRegistry.MAX_CLIENTS + 1);
+        ClientRegistry.getClient(key("region-0", RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        assertThat(builtClients).hasSize(ClientRegistry.MAX_CLIENTS + 1);
+        ClientRegistry.getClient(key("region-1", RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        assertThat(builtClients).hasSize(ClientRegistry.MAX_CLIENTS + 2);
+        verify(builtClients.get(1), never()).close();
+    }
+
+    @Test
+    void getClient_ClosesLosingClient_When_RegisteredConcurrently() throws Exception {
+        final ClientRegistry.ClientKey key = key(REGION, RetryStrategy.FIXED);
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch registered = new CountDownLatch(1);
+        final CloudWatchLogsClient losingClient = mock(CloudWatchLogsClient.class);
+        final BiFunction<ClientRegistry.ClientKey, ClientOverrideConfiguration, CloudWatchLogsClient> slowFactory = (k, configuration) -> {
+            building.countDown();
+            await(registered);
+            return losingClient;
+        };
+
+        final CompletableFuture<CloudWatchLogsClient> slowGet = CompletableFuture.supplyAsync(
+            () -> ClientRegistry.getClient(key, CONFIGURATION, slowFactory)
+        );
+        await(building);
+        final CloudWatchLogsClient winningClient = ClientRegistry.getClient(key, CONFIGURATION, this::buildClient);
+        registered.countDown();
+
+        assertThat(slowGet.get(5, TimeUnit.SECONDS)).isSameAs(winningClient);
+        verify(losingClient).close();
+        verify(winningClient, never()).close();
+    }
+
+    @Test
+    void clear_ClosesEveryClient() {
+        ClientRegistry.getClient(key(REGION, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        ClientRegistry.getClient(key("us-west-2", RetryStrategy.ADAPTIVE), CONFIGURATION, this::buildClient);
+
+        ClientRegistry.clear();
+
+        builtClients.forEach(client -> verify(client).close());
+        ClientRegistry.getClient(key(REGION, RetryStrategy.FIXED), CONFIGURATION, this::buildClient);
+        assertThat(builtClients).hasSize(3);
+    }
+
+    private static ClientRegistry.ClientKey key(final String region, final RetryStrategy retryStrategy) {
+        return new ClientRegistry.ClientKey(region, RETRY_PROFILE, retryStrategy);
+    }
+
+    private CloudWatchLogsClient buildClient(final ClientRegistry.ClientKey key, final ClientOverrideConfiguration configuration) {
+        final CloudWatchLogsClient client = mock(CloudWatchLogsClient.class);
+        builtClients.add(client);
+        builtConfigurations.add(configuration);
+        return client;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
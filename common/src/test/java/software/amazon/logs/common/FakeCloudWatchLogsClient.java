@@ -0,0 +1,1057 @@
+package software.amazon.logs.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.AnomalyDetector;
+import software.amazon.awssdk.services.cloudwatchlogs.model.AnomalyDetectorStatus;
+import software.amazon.awssdk.services.cloudwatchlogs.model.AssociateKmsKeyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.AssociateKmsKeyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogAnomalyDetectorRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogAnomalyDetectorResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteDestinationRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteDestinationResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogAnomalyDetectorRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogAnomalyDetectorResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogStreamRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteLogStreamResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteMetricFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteQueryDefinitionRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteQueryDefinitionResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteRetentionPolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteSubscriptionFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteSubscriptionFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeDestinationsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeDestinationsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeQueryDefinitionsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeQueryDefinitionsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Destination;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DisassociateKmsKeyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DisassociateKmsKeyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.EvaluationFrequency;
+import software.amazon.awssdk.services.cloudwatchlogs.model.GetLogAnomalyDetectorRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.GetLogAnomalyDetectorResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LimitExceededException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListLogAnomalyDetectorsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListLogAnomalyDetectorsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
+import software.amazon.awssdk.services.cloudwatchlogs.model.OrderBy;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutDestinationPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutDestinationPolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutDestinationRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutDestinationResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutQueryDefinitionRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutQueryDefinitionResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutRetentionPolicyResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutSubscriptionFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.QueryDefinition;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter;
+import software.amazon.awssdk.services.cloudwatchlogs.model.TagLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.TagLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.UntagLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.UntagLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.UpdateLogAnomalyDetectorRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.UpdateLogAnomalyDetectorResponse;
+
+/**
+ * In-memory, thread-safe stand-in for the CloudWatch Logs control plane, to run handlers under concurrent load without a network.
+ *
+ * Covers log groups and their tags, retention and KMS key, log streams, metric filters, subscription filters, destinations, query
+ * definitions, resource policies and anomaly detectors. Describe and list calls return pages in name order with opaque nextToken
+ * values and apply the name prefixes and limits of the service, and calls fail with the exceptions the service returns for
+ * missing, existing or over-limit resources. Operations outside of these resources throw UnsupportedOperationException.
+ *
+ * Every call first waits for the configured latency, then fails with a {@code ThrottlingException} or a
+ * {@link ServiceUnavailableException} at the configured rates, before touching any resource. Latency and fault rates can be
+ * changed while a load test is running.
+ *
+ * Modules use it through the test jar of common:
+ *
+ * <pre>
+ * &lt;dependency&gt;
+ *     &lt;groupId&gt;software.amazon.logs.common&lt;/groupId&gt;
+ *     &lt;artifactId&gt;common&lt;/artifactId&gt;
+ *     &lt;version&gt;1.0&lt;/version&gt;
+ *     &lt;type&gt;test-jar&lt;/type&gt;
+ *     &lt;scope&gt;test&lt;/scope&gt;
+ * &lt;/dependency&gt;
+ * </pre>
+ */
+public final class FakeCloudWatchLogsClient implements CloudWatchLogsClient {
+
+    static final int DESCRIBE_MAX_LIMIT = 50;
+    static final int QUERY_DEFINITIONS_MAX_RESULTS = 1000;
+    static final int METRIC_FILTERS_PER_LOG_GROUP = 100;
+    static final int SUBSCRIPTION_FILTERS_PER_LOG_GROUP = 2;
+    static final int RESOURCE_POLICIES_PER_REGION = 10;
+    static final long DEFAULT_ANOMALY_VISIBILITY_TIME = 21L;
+
+    private static final String SERVICE_NAME = "CloudWatchLogs";
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final String region;
+    private final String accountId;
+    private final LongSupplier clock;
+
+    private volatile Duration latency;
+    private volatile Duration latencyJitter;
+    private volatile double throttleRate;
+    private volatile double serverErrorRate;
+
+    private final ConcurrentSkipListMap<String, LogGroupState> logGroups = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Destination> destinations = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, QueryDefinition> queryDefinitions = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, String> queryDefinitionKeys = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, ResourcePolicy> resourcePolicies = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, GetLogAnomalyDetectorResponse> anomalyDetectors = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, LongAdder> callCounts = new ConcurrentHashMap<>();
+
+    /**
+     * @param region          of the ARNs of created resources, us-east-1 by default
+     * @param accountId       of the ARNs of created resources, 123456789012 by default
+     * @param clock           source of creation and modification times, the system clock by default
+     * @param latency         time every call waits before being processed, none by default
+     * @param latencyJitter   random time added to the latency of every call, none by default
+     * @param throttleRate    share of the calls failing with a ThrottlingException, between 0 and 1
+     * @param serverErrorRate share of the calls failing with a ServiceUnavailableException, between 0 and 1
+     */
+    @Builder
+    private FakeCloudWatchLogsClient(
+        final String region,
+        final String accountId,
+        final LongSupplier clock,
+        final Duration latency,
+        final Duration latencyJitter,
+        final double throttleRate,
+        final double serverErrorRate
+    ) {
+        this.region = region != null ? region : "us-east-1";
+        this.accountId = accountId != null ? accountId : "123456789012";
+        this.clock = clock != null ? clock : System::currentTimeMillis;
+        setLatency(latency != null ? latency : Duration.ZERO, latencyJitter != null ? latencyJitter : Duration.ZERO);
+        setThrottleRate(throttleRate);
+        setServerErrorRate(serverErrorRate);
+    }
+
+    public void setLatency(@NonNull final Duration latency, @NonNull final Duration latencyJitter) {
+        if (latency.isNegative() || latencyJitter.isNegative()) {
+            throw new IllegalArgumentException(String.format("Invalid latency [%s] with jitter [%s]", latency, latencyJitter));
+        }
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+    }
+
+    public void setThrottleRate(final double throttleRate) {
+        this.throttleRate = checkRate(throttleRate);
+    }
+
+    public void setServerErrorRate(final double serverErrorRate) {
+        this.serverErrorRate = checkRate(serverErrorRate);
+    }
+
+    /**
+     * @param operation name of the API, e.g. DescribeMetricFilters
+     * @return number of calls to the API, including the ones that failed
+     */
+    public long getCallCount(@NonNull final String operation) {
+        final LongAdder count = callCounts.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * @return number of calls per API, including the ones that failed
+     */
+    public Map<String, Long> getCallCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        callCounts.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Deletes every resource and resets the call counts, keeping the latency and fault rates
+     */
+    public void reset() {
+        logGroups.clear();
+        destinations.clear();
+        synchronized (queryDefinitions) {
+            queryDefinitions.clear();
+            queryDefinitionKeys.clear();
+        }
+        resourcePolicies.clear();
+        anomalyDetectors.clear();
+        callCounts.clear();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public CreateLogGroupResponse createLogGroup(final CreateLogGroupRequest request) {
+        return call("CreateLogGroup", () -> {
+            final String logGroupName = required("logGroupName", request.logGroupName());
+            final LogGroupState logGroup = new LogGroupState(logGroupArn(logGroupName), now(), request.kmsKeyId());
+            if (request.hasTags()) {
+                logGroup.tags.putAll(request.tags());
+            }
+            if (logGroups.putIfAbsent(logGroupName, logGroup) != null) {
+                throw alreadyExists("The specified log group already exists");
+            }
+            return CreateLogGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteLogGroupResponse deleteLogGroup(final DeleteLogGroupRequest request) {
+        return call("DeleteLogGroup", () -> {
+            if (logGroups.remove(required("logGroupName", request.logGroupName())) == null) {
+                throw logGroupNotFound();
+            }
+            return DeleteLogGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeLogGroupsResponse describeLogGroups(final DescribeLogGroupsRequest request) {
+        return call("DescribeLogGroups", () -> {
+            final Page<Map.Entry<String, LogGroupState>> page = page(
+                "DescribeLogGroups",
+                logGroups,
+                request.logGroupNamePrefix(),
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> request.logGroupNamePattern() == null || entry.getKey().contains(request.logGroupNamePattern())
+            );
+
+            final List<LogGroup> logGroupPage = new ArrayList<>(page.getItems().size());
+            for (final Map.Entry<String, LogGroupState> entry : page.getItems()) {
+                logGroupPage.add(entry.getValue().toLogGroup(entry.getKey()));
+            }
+            return DescribeLogGroupsResponse.builder().logGroups(logGroupPage).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutRetentionPolicyResponse putRetentionPolicy(final PutRetentionPolicyRequest request) {
+        return call("PutRetentionPolicy", () -> {
+            logGroup(request.logGroupName()).retentionInDays = required("retentionInDays", request.retentionInDays());
+            return PutRetentionPolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteRetentionPolicyResponse deleteRetentionPolicy(final DeleteRetentionPolicyRequest request) {
+        return call("DeleteRetentionPolicy", () -> {
+            logGroup(request.logGroupName()).retentionInDays = null;
+            return DeleteRetentionPolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public AssociateKmsKeyResponse associateKmsKey(final AssociateKmsKeyRequest request) {
+        return call("AssociateKmsKey", () -> {
+            logGroup(request.logGroupName()).kmsKeyId = required("kmsKeyId", request.kmsKeyId());
+            return AssociateKmsKeyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DisassociateKmsKeyResponse disassociateKmsKey(final DisassociateKmsKeyRequest request) {
+        return call("DisassociateKmsKey", () -> {
+            logGroup(request.logGroupName()).kmsKeyId = null;
+            return DisassociateKmsKeyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public TagLogGroupResponse tagLogGroup(final TagLogGroupRequest request) {
+        return call("TagLogGroup", () -> {
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            if (!request.hasTags() || request.tags().isEmpty()) {
+                throw invalidParameter("Tags must not be empty");
+            }
+            logGroup.tags.putAll(request.tags());
+            return TagLogGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagLogGroupResponse untagLogGroup(final UntagLogGroupRequest request) {
+        return call("UntagLogGroup", () -> {
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            if (request.hasTags()) {
+                logGroup.tags.keySet().removeAll(request.tags());
+            }
+            return UntagLogGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsLogGroupResponse listTagsLogGroup(final ListTagsLogGroupRequest request) {
+        return call("ListTagsLogGroup", () ->
+            ListTagsLogGroupResponse.builder().tags(new HashMap<>(logGroup(request.logGroupName()).tags)).build()
+        );
+    }
+
+    @Override
+    public CreateLogStreamResponse createLogStream(final CreateLogStreamRequest request) {
+        return call("CreateLogStream", () -> {
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            final String logStreamName = required("logStreamName", request.logStreamName());
+            final LogStream logStream = LogStream
+                .builder()
+                .logStreamName(logStreamName)
+                .arn(String.format("%s:log-stream:%s", logGroup.arn.substring(0, logGroup.arn.length() - 2), logStreamName))
+                .creationTime(now())
+                .storedBytes(0L)
+                .build();
+            if (logGroup.logStreams.putIfAbsent(logStreamName, logStream) != null) {
+                throw alreadyExists("The specified log stream already exists");
+            }
+            return CreateLogStreamResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteLogStreamResponse deleteLogStream(final DeleteLogStreamRequest request) {
+        return call("DeleteLogStream", () -> {
+            if (logGroup(request.logGroupName()).logStreams.remove(required("logStreamName", request.logStreamName())) == null) {
+                throw notFound("The specified log stream does not exist.");
+            }
+            return DeleteLogStreamResponse.builder().build();
+        });
+    }
+
+    /**
+     * Log streams hold no events, so streams ordered by LastEventTime are returned in name order like the ones without events
+     */
+    @Override
+    public DescribeLogStreamsResponse describeLogStreams(final DescribeLogStreamsRequest request) {
+        return call("DescribeLogStreams", () -> {
+            if (request.orderBy() == OrderBy.LAST_EVENT_TIME && request.logStreamNamePrefix() != null) {
+                throw invalidParameter("Cannot order by LastEventTime with a logStreamNamePrefix.");
+            }
+
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            final Page<Map.Entry<String, LogStream>> page = page(
+                "DescribeLogStreams",
+                logGroup.logStreams,
+                request.logStreamNamePrefix(),
+                Boolean.TRUE.equals(request.descending()),
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> true
+            );
+            return DescribeLogStreamsResponse.builder().logStreams(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutMetricFilterResponse putMetricFilter(final PutMetricFilterRequest request) {
+        return call("PutMetricFilter", () -> {
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            final String filterName = required("filterName", request.filterName());
+            if (!request.hasMetricTransformations() || request.metricTransformations().size() != 1) {
+                throw invalidParameter("Exactly one metric transformation is required.");
+            }
+
+            final MetricFilter metricFilter = MetricFilter
+                .builder()
+                .logGroupName(request.logGroupName())
+                .filterName(filterName)
+                .filterPattern(required("filterPattern", request.filterPattern()))
+                .metricTransformations(request.metricTransformations())
+                .creationTime(now())
+                .build();
+            synchronized (logGroup.metricFilters) {
+                if (!logGroup.metricFilters.containsKey(filterName) && logGroup.metricFilters.size() >= METRIC_FILTERS_PER_LOG_GROUP) {
+                    throw limitExceeded("Resource limit exceeded.");
+                }
+                logGroup.metricFilters.put(filterName, metricFilter);
+            }
+            return PutMetricFilterResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteMetricFilterResponse deleteMetricFilter(final DeleteMetricFilterRequest request) {
+        return call("DeleteMetricFilter", () -> {
+            if (logGroup(request.logGroupName()).metricFilters.remove(required("filterName", request.filterName())) == null) {
+                throw notFound("The specified metric filter does not exist.");
+            }
+            return DeleteMetricFilterResponse.builder().build();
+        });
+    }
+
+    /**
+     * Without a log group name, the metric filters of every log group are scanned in log group and filter name order
+     */
+    @Override
+    public DescribeMetricFiltersResponse describeMetricFilters(final DescribeMetricFiltersRequest request) {
+        return call("DescribeMetricFilters", () -> {
+            if (request.filterNamePrefix() != null && request.logGroupName() == null) {
+                throw invalidParameter("logGroupName is required when filterNamePrefix is specified.");
+            }
+            if ((request.metricName() == null) != (request.metricNamespace() == null)) {
+                throw invalidParameter("metricName and metricNamespace must be specified together.");
+            }
+
+            final NavigableMap<String, MetricFilter> metricFilters;
+            if (request.logGroupName() != null) {
+                metricFilters = logGroup(request.logGroupName()).metricFilters;
+            } else {
+                metricFilters = new TreeMap<>();
+                for (final Map.Entry<String, LogGroupState> logGroup : logGroups.entrySet()) {
+                    for (final MetricFilter metricFilter : logGroup.getValue().metricFilters.values()) {
+                        metricFilters.put(logGroup.getKey() + KEY_SEPARATOR + metricFilter.filterName(), metricFilter);
+                    }
+                }
+            }
+
+            final Page<Map.Entry<String, MetricFilter>> page = page(
+                "DescribeMetricFilters",
+                metricFilters,
+                request.filterNamePrefix(),
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> request.metricName() == null || entry
+                    .getValue()
+                    .metricTransformations()
+                    .stream()
+                    .anyMatch(t -> request.metricName().equals(t.metricName()) && request.metricNamespace().equals(t.metricNamespace()))
+            );
+            return DescribeMetricFiltersResponse.builder().metricFilters(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutSubscriptionFilterResponse putSubscriptionFilter(final PutSubscriptionFilterRequest request) {
+        return call("PutSubscriptionFilter", () -> {
+            final LogGroupState logGroup = logGroup(request.logGroupName());
+            final String filterName = required("filterName", request.filterName());
+            final SubscriptionFilter subscriptionFilter = SubscriptionFilter
+                .builder()
+                .logGroupName(request.logGroupName())
+                .filterName(filterName)
+                .filterPattern(required("filterPattern", request.filterPattern()))
+                .destinationArn(required("destinationArn", request.destinationArn()))
+                .roleArn(request.roleArn())
+                .distribution(request.distribution())
+                .creationTime(now())
+                .build();
+            synchronized (logGroup.subscriptionFilters) {
+                if (
+                    !logGroup.subscriptionFilters.containsKey(filterName) &&
+                    logGroup.subscriptionFilters.size() >= SUBSCRIPTION_FILTERS_PER_LOG_GROUP
+                ) {
+                    throw limitExceeded("Resource limit exceeded.");
+                }
+                logGroup.subscriptionFilters.put(filterName, subscriptionFilter);
+            }
+            return PutSubscriptionFilterResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteSubscriptionFilterResponse deleteSubscriptionFilter(final DeleteSubscriptionFilterRequest request) {
+        return call("DeleteSubscriptionFilter", () -> {
+            if (logGroup(request.logGroupName()).subscriptionFilters.remove(required("filterName", request.filterName())) == null) {
+                throw notFound("The specified subscription filter does not exist.");
+            }
+            return DeleteSubscriptionFilterResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeSubscriptionFiltersResponse describeSubscriptionFilters(final DescribeSubscriptionFiltersRequest request) {
+        return call("DescribeSubscriptionFilters", () -> {
+            final Page<Map.Entry<String, SubscriptionFilter>> page = page(
+                "DescribeSubscriptionFilters",
+                logGroup(request.logGroupName()).subscriptionFilters,
+                request.filterNamePrefix(),
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> true
+            );
+            return DescribeSubscriptionFiltersResponse.builder().subscriptionFilters(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutDestinationResponse putDestination(final PutDestinationRequest request) {
+        return call("PutDestination", () -> {
+            final String destinationName = required("destinationName", request.destinationName());
+            final Destination destination = destinations.compute(
+                destinationName,
+                (name, existing) ->
+                    (existing != null ? existing.toBuilder() : Destination.builder().arn(destinationArn(name)).creationTime(now()))
+                        .destinationName(name)
+                        .targetArn(required("targetArn", request.targetArn()))
+                        .roleArn(required("roleArn", request.roleArn()))
+                        .build()
+            );
+            return PutDestinationResponse.builder().destination(destination).build();
+        });
+    }
+
+    @Override
+    public PutDestinationPolicyResponse putDestinationPolicy(final PutDestinationPolicyRequest request) {
+        return call("PutDestinationPolicy", () -> {
+            final String accessPolicy = required("accessPolicy", request.accessPolicy());
+            final Destination updated = destinations.computeIfPresent(
+                required("destinationName", request.destinationName()),
+                (name, existing) -> existing.toBuilder().accessPolicy(accessPolicy).build()
+            );
+            if (updated == null) {
+                throw notFound("The specified destination does not exist.");
+            }
+            return PutDestinationPolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteDestinationResponse deleteDestination(final DeleteDestinationRequest request) {
+        return call("DeleteDestination", () -> {
+            if (destinations.remove(required("destinationName", request.destinationName())) == null) {
+                throw notFound("The specified destination does not exist.");
+            }
+            return DeleteDestinationResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeDestinationsResponse describeDestinations(final DescribeDestinationsRequest request) {
+        return call("DescribeDestinations", () -> {
+            final Page<Map.Entry<String, Destination>> page = page(
+                "DescribeDestinations",
+                destinations,
+                request.destinationNamePrefix(),
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> true
+            );
+            return DescribeDestinationsResponse.builder().destinations(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutQueryDefinitionResponse putQueryDefinition(final PutQueryDefinitionRequest request) {
+        return call("PutQueryDefinition", () -> {
+            final String name = required("name", request.name());
+            final String queryString = required("queryString", request.queryString());
+            final String queryDefinitionId = request.queryDefinitionId() != null ? request.queryDefinitionId() : UUID.randomUUID().toString();
+
+            synchronized (queryDefinitions) {
+                final String existingKey = queryDefinitionKeys.get(queryDefinitionId);
+                if (request.queryDefinitionId() != null && existingKey == null) {
+                    throw notFound("The specified query definition does not exist.");
+                }
+                if (existingKey != null) {
+                    queryDefinitions.remove(existingKey);
+                }
+
+                final String key = name + KEY_SEPARATOR + queryDefinitionId;
+                queryDefinitions.put(
+                    key,
+                    QueryDefinition
+                        .builder()
+                        .queryDefinitionId(queryDefinitionId)
+                        .name(name)
+                        .queryString(queryString)
+                        .logGroupNames(request.hasLogGroupNames() ? request.logGroupNames() : null)
+                        .lastModified(now())
+                        .build()
+                );
+                queryDefinitionKeys.put(queryDefinitionId, key);
+            }
+            return PutQueryDefinitionResponse.builder().queryDefinitionId(queryDefinitionId).build();
+        });
+    }
+
+    @Override
+    public DeleteQueryDefinitionResponse deleteQueryDefinition(final DeleteQueryDefinitionRequest request) {
+        return call("DeleteQueryDefinition", () -> {
+            synchronized (queryDefinitions) {
+                final String key = queryDefinitionKeys.remove(required("queryDefinitionId", request.queryDefinitionId()));
+                if (key == null) {
+                    throw notFound("The specified query definition does not exist.");
+                }
+                queryDefinitions.remove(key);
+            }
+            return DeleteQueryDefinitionResponse.builder().success(true).build();
+        });
+    }
+
+    @Override
+    public DescribeQueryDefinitionsResponse describeQueryDefinitions(final DescribeQueryDefinitionsRequest request) {
+        return call("DescribeQueryDefinitions", () -> {
+            final Page<Map.Entry<String, QueryDefinition>> page = page(
+                "DescribeQueryDefinitions",
+                queryDefinitions,
+                request.queryDefinitionNamePrefix(),
+                false,
+                request.nextToken(),
+                limit(request.maxResults(), QUERY_DEFINITIONS_MAX_RESULTS),
+                entry -> true
+            );
+            return DescribeQueryDefinitionsResponse.builder().queryDefinitions(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest request) {
+        return call("PutResourcePolicy", () -> {
+            final String policyName = required("policyName", request.policyName());
+            final ResourcePolicy resourcePolicy = ResourcePolicy
+                .builder()
+                .policyName(policyName)
+                .policyDocument(required("policyDocument", request.policyDocument()))
+                .lastUpdatedTime(now())
+                .build();
+            synchronized (resourcePolicies) {
+                if (!resourcePolicies.containsKey(policyName) && resourcePolicies.size() >= RESOURCE_POLICIES_PER_REGION) {
+                    throw limitExceeded("Resource limit exceeded.");
+                }
+                resourcePolicies.put(policyName, resourcePolicy);
+            }
+            return PutResourcePolicyResponse.builder().resourcePolicy(resourcePolicy).build();
+        });
+    }
+
+    @Override
+    public DeleteResourcePolicyResponse deleteResourcePolicy(final DeleteResourcePolicyRequest request) {
+        return call("DeleteResourcePolicy", () -> {
+            if (resourcePolicies.remove(required("policyName", request.policyName())) == null) {
+                throw notFound("Policy with name [" + request.policyName() + "] does not exist");
+            }
+            return DeleteResourcePolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeResourcePoliciesResponse describeResourcePolicies(final DescribeResourcePoliciesRequest request) {
+        return call("DescribeResourcePolicies", () -> {
+            final Page<Map.Entry<String, ResourcePolicy>> page = page(
+                "DescribeResourcePolicies",
+                resourcePolicies,
+                null,
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> true
+            );
+            return DescribeResourcePoliciesResponse.builder().resourcePolicies(values(page)).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    @Override
+    public CreateLogAnomalyDetectorResponse createLogAnomalyDetector(final CreateLogAnomalyDetectorRequest request) {
+        return call("CreateLogAnomalyDetector", () -> {
+            if (!request.hasLogGroupArnList() || request.logGroupArnList().isEmpty()) {
+                throw invalidParameter("logGroupArnList must not be empty.");
+            }
+            for (final String logGroupArn : request.logGroupArnList()) {
+                logGroup(logGroupNameOf(logGroupArn));
+            }
+
+            final String anomalyDetectorArn = String.format("arn:aws:logs:%s:%s:anomaly-detector:%s", region, accountId, UUID.randomUUID());
+            final long now = now();
+            anomalyDetectors.put(
+                anomalyDetectorArn,
+                GetLogAnomalyDetectorResponse
+                    .builder()
+                    .detectorName(request.detectorName())
+                    .logGroupArnList(request.logGroupArnList())
+                    .evaluationFrequency(
+                        request.evaluationFrequency() != null ? request.evaluationFrequencyAsString() : EvaluationFrequency.FIFTEEN_MIN.toString()
+                    )
+                    .filterPattern(request.filterPattern())
+                    .kmsKeyId(request.kmsKeyId())
+                    .anomalyVisibilityTime(
+                        request.anomalyVisibilityTime() != null ? request.anomalyVisibilityTime() : DEFAULT_ANOMALY_VISIBILITY_TIME
+                    )
+                    .anomalyDetectorStatus(AnomalyDetectorStatus.INITIALIZING)
+                    .creationTimeStamp(now)
+                    .lastModifiedTimeStamp(now)
+                    .build()
+            );
+            return CreateLogAnomalyDetectorResponse.builder().anomalyDetectorArn(anomalyDetectorArn).build();
+        });
+    }
+
+    @Override
+    public GetLogAnomalyDetectorResponse getLogAnomalyDetector(final GetLogAnomalyDetectorRequest request) {
+        return call("GetLogAnomalyDetector", () -> {
+            final GetLogAnomalyDetectorResponse anomalyDetector = anomalyDetectors.get(required("anomalyDetectorArn", request.anomalyDetectorArn()));
+            if (anomalyDetector == null) {
+                throw anomalyDetectorNotFound();
+            }
+            return anomalyDetector;
+        });
+    }
+
+    @Override
+    public UpdateLogAnomalyDetectorResponse updateLogAnomalyDetector(final UpdateLogAnomalyDetectorRequest request) {
+        return call("UpdateLogAnomalyDetector", () -> {
+            final GetLogAnomalyDetectorResponse updated = anomalyDetectors.computeIfPresent(
+                required("anomalyDetectorArn", request.anomalyDetectorArn()),
+                (arn, existing) -> {
+                    final GetLogAnomalyDetectorResponse.Builder builder = existing.toBuilder().lastModifiedTimeStamp(now());
+                    if (request.evaluationFrequency() != null) {
+                        builder.evaluationFrequency(request.evaluationFrequencyAsString());
+                    }
+                    if (request.filterPattern() != null) {
+                        builder.filterPattern(request.filterPattern());
+                    }
+                    if (request.anomalyVisibilityTime() != null) {
+                        builder.anomalyVisibilityTime(request.anomalyVisibilityTime());
+                    }
+                    if (request.enabled() != null) {
+                        builder.anomalyDetectorStatus(request.enabled() ? AnomalyDetectorStatus.ANALYZING : AnomalyDetectorStatus.PAUSED);
+                    }
+                    return builder.build();
+                }
+            );
+            if (updated == null) {
+                throw anomalyDetectorNotFound();
+            }
+            return UpdateLogAnomalyDetectorResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteLogAnomalyDetectorResponse deleteLogAnomalyDetector(final DeleteLogAnomalyDetectorRequest request) {
+        return call("DeleteLogAnomalyDetector", () -> {
+            if (anomalyDetectors.remove(required("anomalyDetectorArn", request.anomalyDetectorArn())) == null) {
+                throw anomalyDetectorNotFound();
+            }
+            return DeleteLogAnomalyDetectorResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListLogAnomalyDetectorsResponse listLogAnomalyDetectors(final ListLogAnomalyDetectorsRequest request) {
+        return call("ListLogAnomalyDetectors", () -> {
+            final Page<Map.Entry<String, GetLogAnomalyDetectorResponse>> page = page(
+                "ListLogAnomalyDetectors",
+                anomalyDetectors,
+                null,
+                false,
+                request.nextToken(),
+                limit(request.limit(), DESCRIBE_MAX_LIMIT),
+                entry -> request.filterLogGroupArn() == null || entry.getValue().logGroupArnList().contains(request.filterLogGroupArn())
+            );
+
+            final List<AnomalyDetector> anomalyDetectorPage = new ArrayList<>(page.getItems().size());
+            for (final Map.Entry<String, GetLogAnomalyDetectorResponse> entry : page.getItems()) {
+                final GetLogAnomalyDetectorResponse detector = entry.getValue();
+                anomalyDetectorPage.add(
+                    AnomalyDetector
+                        .builder()
+                        .anomalyDetectorArn(entry.getKey())
+                        .detectorName(detector.detectorName())
+                        .logGroupArnList(detector.logGroupArnList())
+                        .evaluationFrequency(detector.evaluationFrequencyAsString())
+                        .filterPattern(detector.filterPattern())
+                        .anomalyDetectorStatus(detector.anomalyDetectorStatusAsString())
+                        .kmsKeyId(detector.kmsKeyId())
+                        .creationTimeStamp(detector.creationTimeStamp())
+                        .lastModifiedTimeStamp(detector.lastModifiedTimeStamp())
+                        .anomalyVisibilityTime(detector.anomalyVisibilityTime())
+                        .build()
+                );
+            }
+            return ListLogAnomalyDetectorsResponse.builder().anomalyDetectors(anomalyDetectorPage).nextToken(page.getNextToken()).build();
+        });
+    }
+
+    /**
+     * Counts the call, waits for the configured latency and injects the configured faults before running the operation
+     */
+    private <ResponseT> ResponseT call(final String operation, final Supplier<ResponseT> operationCall) {
+        callCounts.computeIfAbsent(operation, o -> new LongAdder()).increment();
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long jitterMillis = latencyJitter.toMillis();
+        final long latencyMillis = latency.toMillis() + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0L);
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (random.nextDouble() < throttleRate) {
+            throw error(CloudWatchLogsException.builder(), 400, "ThrottlingException", "Rate exceeded");
+        }
+        if (random.nextDouble() < serverErrorRate) {
+            throw error(ServiceUnavailableException.builder(), 503, "ServiceUnavailableException", "The service is unavailable.");
+        }
+        return operationCall.get();
+    }
+
+    /**
+     * Reads a page of entries in key order, or in reverse key order when descending
+     *
+     * @param operation name of the API, so a token of another API is rejected
+     * @param entries   every entry the API can return, by name
+     * @param prefix    name prefix of the entries to return, or null for every entry
+     * @param limit     maximum number of entries in the page
+     * @param filter    entries to return among the ones matching the prefix
+     * @return the page, with the token of the next page if more entries match
+     */
+    private static <T> Page<Map.Entry<String, T>> page(
+        final String operation,
+        final NavigableMap<String, T> entries,
+        final String prefix,
+        final boolean descending,
+        final String nextToken,
+        final int limit,
+        final Predicate<Map.Entry<String, T>> filter
+    ) {
+        NavigableMap<String, T> view = prefix == null ? entries : entries.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        if (descending) {
+            view = view.descendingMap();
+        }
+        if (nextToken != null) {
+            view = view.tailMap(decodeToken(operation, nextToken), false);
+        }
+
+        final List<Map.Entry<String, T>> items = new ArrayList<>(Math.min(limit, DESCRIBE_MAX_LIMIT));
+        final Iterator<Map.Entry<String, T>> iterator = view.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, T> entry = iterator.next();
+            if (!filter.test(entry)) {
+                continue;
+            }
+            if (items.size() == limit) {
+                return new Page<>(items, encodeToken(operation, items.get(items.size() - 1).getKey()));
+            }
+            items.add(entry);
+        }
+        return new Page<>(items, null);
+    }
+
+    private static <T> List<T> values(final Page<Map.Entry<String, T>> page) {
+        final List<T> values = new ArrayList<>(page.getItems().size());
+        for (final Map.Entry<String, T> entry : page.getItems()) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+
+    private static String encodeToken(final String operation, final String lastKey) {
+        return Base64.getUrlEncoder().encodeToString((operation + KEY_SEPARATOR + lastKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(final String operation, final String nextToken) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException ex) {
+            throw invalidParameter("The specified nextToken is invalid.");
+        }
+        if (!decoded.startsWith(operation + KEY_SEPARATOR)) {
+            throw invalidParameter("The specified nextToken is invalid.");
+        }
+        return decoded.substring(operation.length() + 1);
+    }
+
+    private static int limit(final Integer limit, final int maxLimit) {
+        if (limit == null) {
+            return maxLimit;
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw invalidParameter(String.format("The limit must be between 1 and %d.", maxLimit));
+        }
+        return limit;
+    }
+
+    private LogGroupState logGroup(final String logGroupName) {
+        final LogGroupState logGroup = logGroups.get(required("logGroupName", logGroupName));
+        if (logGroup == null) {
+            throw logGroupNotFound();
+        }
+        return logGroup;
+    }
+
+    private String logGroupArn(final String logGroupName) {
+        return String.format("arn:aws:logs:%s:%s:log-group:%s:*", region, accountId, logGroupName);
+    }
+
+    private String destinationArn(final String destinationName) {
+        return String.format("arn:aws:logs:%s:%s:destination:%s", region, accountId, destinationName);
+    }
+
+    private static String logGroupNameOf(final String logGroupArn) {
+        final int start = logGroupArn.indexOf(":log-group:");
+        if (start < 0) {
+            throw invalidParameter("Invalid log group ARN [" + logGroupArn + "]");
+        }
+        final String logGroupName = logGroupArn.substring(start + ":log-group:".length());
+        return logGroupName.endsWith(":*") ? logGroupName.substring(0, logGroupName.length() - 2) : logGroupName;
+    }
+
+    private long now() {
+        return clock.getAsLong();
+    }
+
+    private static <T> T required(final String parameter, final T value) {
+        if (value == null) {
+            throw invalidParameter(String.format("Missing required parameter [%s]", parameter));
+        }
+        return value;
+    }
+
+    private static double checkRate(final double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException(String.format("Invalid rate [%s]", rate));
+        }
+        return rate;
+    }
+
+    private static RuntimeException logGroupNotFound() {
+        return notFound("The specified log group does not exist.");
+    }
+
+    private static RuntimeException anomalyDetectorNotFound() {
+        return notFound("The specified anomaly detector does not exist.");
+    }
+
+    private static RuntimeException notFound(final String message) {
+        return error(ResourceNotFoundException.builder(), 400, "ResourceNotFoundException", message);
+    }
+
+    private static RuntimeException alreadyExists(final String message) {
+        return error(ResourceAlreadyExistsException.builder(), 400, "ResourceAlreadyExistsException", message);
+    }
+
+    private static RuntimeException invalidParameter(final String message) {
+        return error(InvalidParameterException.builder(), 400, "InvalidParameterException", message);
+    }
+
+    private static RuntimeException limitExceeded(final String message) {
+        return error(LimitExceededException.builder(), 400, "LimitExceededException", message);
+    }
+
+    private static RuntimeException error(
+        final CloudWatchLogsException.Builder builder,
+        final int statusCode,
+        final String errorCode,
+        final String message
+    ) {
+        return builder
+            .message(message)
+            .statusCode(statusCode)
+            .requestId(UUID.randomUUID().toString())
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).errorMessage(message).serviceName(SERVICE_NAME).build())
+            .build();
+    }
+
+    @Value
+    private static class Page<T> {
+
+        List<T> items;
+        String nextToken;
+    }
+
+    /**
+     * A log group and the resources that are deleted with it
+     */
+    private static final class LogGroupState {
+
+        private final String arn;
+        private final long creationTime;
+        private volatile Integer retentionInDays;
+        private volatile String kmsKeyId;
+        private final ConcurrentMap<String, String> tags = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, LogStream> logStreams = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, MetricFilter> metricFilters = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, SubscriptionFilter> subscriptionFilters = new ConcurrentSkipListMap<>();
+
+        private LogGroupState(final String arn, final long creationTime, final String kmsKeyId) {
+            this.arn = arn;
+            this.creationTime = creationTime;
+            this.kmsKeyId = kmsKeyId;
+        }
+
+        private LogGroup toLogGroup(final String logGroupName) {
+            return LogGroup
+                .builder()
+                .logGroupName(logGroupName)
+                .arn(arn)
+                .creationTime(creationTime)
+                .retentionInDays(retentionInDays)
+                .kmsKeyId(kmsKeyId)
+                .metricFilterCount(metricFilters.size())
+                .storedBytes(0L)
+                .build();
+        }
+    }
+}
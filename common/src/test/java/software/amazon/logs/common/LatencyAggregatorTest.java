@@ -0,0 +1,114 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.DimensionSet;
+import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class LatencyAggregatorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<MetricsLogger> published = new ArrayList<>();
+
+    @Test
+    void record_FlushesOnCount() {
+        final LatencyAggregator aggregator = newAggregator(Duration.ofHours(1), 3);
+
+        aggregator.record("CreateHandler", 10);
+        aggregator.record("CreateHandler", 20);
+        assertThat(published).isEmpty();
+
+        aggregator.record("CreateHandler", 30);
+        // One logger for the operation and one for the resource type
+        assertThat(published).hasSize(2);
+    }
+
+    @Test
+    void record_FlushesOnInterval() {
+        final LatencyAggregator aggregator = newAggregator(Duration.ofMinutes(1), 1000);
+
+        aggregator.record("CreateHandler", 10);
+        assertThat(published).isEmpty();
+
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        aggregator.record("CreateHandler", 20);
+        assertThat(published).hasSize(2);
+    }
+
+    @Test
+    void flush_PublishesPercentilesPerOperation() {
+        final LatencyAggregator aggregator = newAggregator(Duration.ofHours(1), 1000);
+        for (long latency = 1; latency <= 100; latency++) {
+            aggregator.record("CreateHandler", latency);
+        }
+
+        aggregator.flush();
+
+        assertThat(published).hasSize(2);
+        final MetricsLogger operationMetrics = published.get(0);
+        assertThat(operationOf(operationMetrics)).isEqualTo("CreateHandler");
+        verify(operationMetrics).putMetric("Time.p50", 50, Unit.MILLISECONDS, StorageResolution.STANDARD);
+        verify(operationMetrics).putMetric("Time.p90", 91, Unit.MILLISECONDS, StorageResolution.STANDARD);
+        verify(operationMetrics).putMetric("Time.p99", 99, Unit.MILLISECONDS, StorageResolution.STANDARD);
+        verify(operationMetrics).putMetric("Time.Max", 100, Unit.MILLISECONDS, StorageResolution.STANDARD);
+        verify(operationMetrics).putMetric("Time.SampleCount", 100, Unit.COUNT, StorageResolution.STANDARD);
+
+        final MetricsLogger resourceTypeMetrics = published.get(1);
+        verify(resourceTypeMetrics, never()).putDimensions(any());
+        verify(resourceTypeMetrics).putMetric("Time.SampleCount", 100, Unit.COUNT, StorageResolution.STANDARD);
+    }
+
+    @Test
+    void flush_SkipsEmptyHistograms() {
+        final LatencyAggregator aggregator = newAggregator(Duration.ofHours(1), 1000);
+        aggregator.record("CreateHandler", 10);
+        aggregator.flush();
+        published.clear();
+
+        aggregator.flush();
+
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void record_GroupsOperationsPastMax() {
+        final LatencyAggregator aggregator = newAggregator(Duration.ofHours(1), 1000);
+        for (int i = 0; i <= LatencyAggregator.MAX_OPERATIONS; i++) {
+            aggregator.record("Handler" + i, 10);
+        }
+
+        aggregator.flush();
+
+        final List<String> operations = new ArrayList<>();
+        for (final MetricsLogger metrics : published.subList(0, published.size() - 1)) {
+            operations.add(operationOf(metrics));
+        }
+        assertThat(operations).hasSize(LatencyAggregator.MAX_OPERATIONS + 1).contains(LatencyAggregator.OTHER_OPERATION);
+    }
+
+    private LatencyAggregator newAggregator(final Duration flushInterval, final long flushCount) {
+        return new LatencyAggregator(flushInterval, flushCount, clock::get, () -> {
+            final MetricsLogger metrics = mock(MetricsLogger.class);
+            published.add(metrics);
+            return metrics;
+        });
+    }
+
+    private static String operationOf(final MetricsLogger metrics) {
+        final ArgumentCaptor<DimensionSet> dimensions = ArgumentCaptor.forClass(DimensionSet.class);
+        verify(metrics).putDimensions(dimensions.capture());
+        return dimensions.getValue().getDimensionValue(MetricsConstants.OPERATION);
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void indexOf_ValuesBelowSubBucketCount_HaveOwnBucket() {
+        for (long value = 0; value < LatencyHistogram.SUB_BUCKET_COUNT; value++) {
+            assertThat(LatencyHistogram.indexOf(value)).isEqualTo((int) value);
+            assertThat(LatencyHistogram.highestValueOf((int) value)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void indexOf_BucketBoundaries() {
+        // 32 to 63 are still exact, from 64 on a bucket spans 2 values, from 128 on 4 values
+        assertThat(LatencyHistogram.indexOf(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.indexOf(63)).isEqualTo(63);
+        assertThat(LatencyHistogram.highestValueOf(63)).isEqualTo(63);
+
+        assertThat(LatencyHistogram.indexOf(64)).isEqualTo(64);
+        assertThat(LatencyHistogram.indexOf(65)).isEqualTo(64);
+        assertThat(LatencyHistogram.indexOf(66)).isEqualTo(65);
+        assertThat(LatencyHistogram.highestValueOf(64)).isEqualTo(65);
+
+        assertThat(LatencyHistogram.indexOf(128)).isEqualTo(LatencyHistogram.indexOf(131));
+        assertThat(LatencyHistogram.indexOf(132)).isEqualTo(LatencyHistogram.indexOf(131) + 1);
+    }
+
+    @Test
+    void highestValueOf_IsWithinBucketPrecision() {
+        for (long value = 0; value <= LatencyHistogram.MAX_VALUE; value += 1 + value / 64) {
+            final long highestValue = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+
+            assertThat(highestValue).isGreaterThanOrEqualTo(value);
+            assertThat(highestValue - value).isLessThanOrEqualTo(value / LatencyHistogram.SUB_BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    void snapshotAndReset_Percentiles() {
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.getP50()).isEqualTo(50);
+        // 90 shares its bucket with 91
+        assertThat(snapshot.getP90()).isEqualTo(91);
+        assertThat(snapshot.getP99()).isEqualTo(99);
+        assertThat(snapshot.getMax()).isEqualTo(100);
+    }
+
+    @Test
+    void snapshotAndReset_PercentileCappedAtMax() {
+        histogram.record(64);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.getP50()).isEqualTo(64);
+        assertThat(snapshot.getP99()).isEqualTo(64);
+    }
+
+    @Test
+    void snapshotAndReset_ResetsHistogram() {
+        histogram.record(10);
+        histogram.snapshotAndReset();
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot).isEqualTo(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void record_ClampsOutOfRangeValues() {
+        histogram.record(-5);
+        histogram.record(LatencyHistogram.MAX_VALUE * 2);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getP50()).isEqualTo(0);
+        assertThat(snapshot.getMax()).isEqualTo(LatencyHistogram.MAX_VALUE * 2);
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class LogGroupDescribeCacheTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String LOG_GROUP_NAME = "LogGroup";
+    private static final String API = "DescribeMetricFilters";
+    private static final String REQUEST = "request";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final LogGroupDescribeCache cache = new LogGroupDescribeCache(Duration.ofSeconds(5), 3, clock::get);
+
+    @Test
+    void get_ServesFromCache_WithinTtl() {
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-1");
+
+        clock.addAndGet(Duration.ofSeconds(5).toMillis() - 1);
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_Reloads_When_TtlExpired() {
+        get(LOG_GROUP_NAME, REQUEST);
+
+        clock.addAndGet(Duration.ofSeconds(5).toMillis());
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_CachesRequestsApart() {
+        get(LOG_GROUP_NAME, REQUEST);
+
+        assertThat(get(LOG_GROUP_NAME, "other-request")).isEqualTo("response-2");
+        assertThat(cache.get(ACCOUNT_ID, "us-west-2", LOG_GROUP_NAME, API, REQUEST, this::load)).isEqualTo("response-3");
+        assertThat(cache.get(ACCOUNT_ID, REGION, LOG_GROUP_NAME, "DescribeSubscriptionFilters", REQUEST, this::load))
+            .isEqualTo("response-4");
+    }
+
+    @Test
+    void invalidate_DropsEntriesOfLogGroup() {
+        get(LOG_GROUP_NAME, REQUEST);
+        get("OtherLogGroup", REQUEST);
+
+        cache.invalidate(ACCOUNT_ID, REGION, LOG_GROUP_NAME);
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-3");
+        assertThat(get("OtherLogGroup", REQUEST)).isEqualTo("response-2");
+    }
+
+    @Test
+    void invalidate_OfOtherAccount_KeepsEntries() {
+        get(LOG_GROUP_NAME, REQUEST);
+
+        cache.invalidate("210987654321", REGION, LOG_GROUP_NAME);
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-1");
+    }
+
+    @Test
+    void get_DoesNotCache_When_InvalidatedWhileLoading() {
+        final Supplier<String> invalidatingLoader = () -> {
+            final String response = load();
+            cache.invalidate(ACCOUNT_ID, REGION, LOG_GROUP_NAME);
+            return response;
+        };
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, LOG_GROUP_NAME, API, REQUEST, invalidatingLoader)).isEqualTo("response-1");
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-2");
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-2");
+    }
+
+    @Test
+    void get_DoesNotCache_When_LoaderThrows() {
+        assertThatThrownBy(
+            () -> cache.get(ACCOUNT_ID, REGION, LOG_GROUP_NAME, API, REQUEST, () -> {
+                throw new IllegalStateException("describe failed");
+            })
+        ).isInstanceOf(IllegalStateException.class);
+
+        assertThat(get(LOG_GROUP_NAME, REQUEST)).isEqualTo("response-1");
+    }
+
+    @Test
+    void get_EvictsLeastRecentlyUsed() {
+        get("LogGroup-1", REQUEST);
+        get("LogGroup-2", REQUEST);
+        get("LogGroup-3", REQUEST);
+        // Makes LogGroup-2 the least recently used
+        get("LogGroup-1", REQUEST);
+
+        get("LogGroup-4", REQUEST);
+
+        assertThat(get("LogGroup-1", REQUEST)).isEqualTo("response-1");
+        assertThat(get("LogGroup-3", REQUEST)).isEqualTo("response-3");
+        assertThat(get("LogGroup-2", REQUEST)).isEqualTo("response-5");
+    }
+
+    @Test
+    void constructor_RejectsInvalidSize() {
+        assertThatThrownBy(() -> new LogGroupDescribeCache(Duration.ofSeconds(5), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String get(final String logGroupName, final String request) {
+        return cache.get(ACCOUNT_ID, REGION, logGroupName, API, request, this::load);
+    }
+
+    private String load() {
+        return "response-" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,57 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class MetricKeyTest {
+
+    @Test
+    void of_InternsKey_PerNameAndUnit() {
+        final MetricKey key = MetricKey.of("MetricKeyTest.Interned", Unit.COUNT);
+
+        assertThat(MetricKey.of("MetricKeyTest.Interned", Unit.COUNT)).isSameAs(key);
+        assertThat(MetricKey.of("MetricKeyTest", "Interned", Unit.COUNT)).isSameAs(key);
+        assertThat(MetricKey.of("MetricKeyTest.Interned", Unit.MILLISECONDS)).isNotEqualTo(key);
+        assertThat(key.getName()).isEqualTo("MetricKeyTest.Interned");
+        assertThat(key.getUnit()).isEqualTo(Unit.COUNT);
+    }
+
+    @Test
+    void name_InternsName_PerPrefixAndSuffix() {
+        final String name = MetricKey.name("MetricKeyTest", "Name");
+
+        assertThat(name).isEqualTo("MetricKeyTest.Name");
+        assertThat(MetricKey.name("MetricKeyTest", "Name")).isSameAs(name);
+    }
+
+    @Test
+    void name_StopsCaching_OnceBoundIsReached() {
+        final String prefix = "MetricKeyTest.BoundedNames";
+        for (int i = 0; i < MetricKey.MAX_NAMES; i++) {
+            MetricKey.name(prefix, "Name" + i);
+        }
+
+        final String name = MetricKey.name(prefix, "Overflow");
+
+        assertThat(name).isEqualTo(prefix + ".Overflow");
+        assertThat(MetricKey.name(prefix, "Overflow")).isEqualTo(name).isNotSameAs(name);
+        // Names cached before the bound was reached are still served from the registry
+        assertThat(MetricKey.name(prefix, "Name0")).isSameAs(MetricKey.name(prefix, "Name0"));
+    }
+
+    @Test
+    void of_StopsCaching_OnceBoundIsReached() {
+        // A unit no other metric uses, so filling its registry does not affect other keys
+        final Unit unit = Unit.TERABITS_SECOND;
+        for (int i = 0; i < MetricKey.MAX_NAMES; i++) {
+            MetricKey.of("MetricKeyTest.BoundedKey" + i, unit);
+        }
+
+        final MetricKey key = MetricKey.of("MetricKeyTest.Overflow", unit);
+
+        assertThat(key.getName()).isEqualTo("MetricKeyTest.Overflow");
+        assertThat(MetricKey.of("MetricKeyTest.Overflow", unit)).isEqualTo(key).isNotSameAs(key);
+    }
+}
@@ -0,0 +1,162 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class MetricsInterceptorTest {
+
+    private static final String OPERATION = "PutMetricFilter";
+    private static final String PREFIX = "Service." + OPERATION;
+
+    private final MetricsInterceptor interceptor = new MetricsInterceptor();
+    private final MetricsLogger metrics = mock(MetricsLogger.class);
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+    private InvocationCounters invocation;
+
+    @BeforeEach
+    void setup() {
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, OPERATION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (invocation != null) {
+            invocation.stop();
+        }
+    }
+
+    @Test
+    void afterExecution_QueuesCallMetrics_OnInvocation() {
+        invocation = InvocationCounters.start();
+
+        interceptor.beforeExecution(context(200), executionAttributes);
+        transmit(429);
+        transmit(200);
+        interceptor.afterExecution(context(200), executionAttributes);
+
+        verifyNoInteractions(metrics);
+        invocation.publishServiceCalls(metrics);
+
+        assertThat(invocation.getApiCalls()).isEqualTo(1);
+        verifyMetric("Attempts", 2, Unit.COUNT);
+        verifyMetric("Throttles", 1, Unit.COUNT);
+        verifyMetric("Fault", 0, Unit.COUNT);
+        verifyMetric("PacingDelay", 0, Unit.MILLISECONDS);
+        verifyMetric("RequestBytes", 20, Unit.BYTES);
+        verifyMetric("ResponseBytes", 40, Unit.BYTES);
+        verify(metrics).putMetric(eq(PREFIX + ".Latency"), anyDouble(), eq(Unit.MILLISECONDS), eq(StorageResolution.STANDARD));
+        verify(metrics).putMetric(eq(PREFIX + ".FirstAttemptLatency"), anyDouble(), eq(Unit.MILLISECONDS), eq(StorageResolution.STANDARD));
+        verify(metrics).putProperty(PREFIX + ".StatusCode", 200);
+    }
+
+    @Test
+    void onExecutionFailure_CountsThrottlingException_AsThrottleAndFault() {
+        invocation = InvocationCounters.start();
+        final Context.FailedExecution failedExecution = mock(Context.FailedExecution.class);
+        when(failedExecution.exception())
+            .thenReturn(
+                AwsServiceException
+                    .builder()
+                    .statusCode(400)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                    .build()
+            );
+
+        interceptor.beforeExecution(context(400), executionAttributes);
+        interceptor.onExecutionFailure(failedExecution, executionAttributes);
+        invocation.publishServiceCalls(metrics);
+
+        verifyMetric("Attempts", 0, Unit.COUNT);
+        verifyMetric("Throttles", 1, Unit.COUNT);
+        verifyMetric("Fault", 1, Unit.COUNT);
+    }
+
+    @Test
+    void afterExecution_DoesNotPublish_OutsideOfInvocation() {
+        interceptor.beforeExecution(context(200), executionAttributes);
+        transmit(200);
+        interceptor.afterExecution(context(200), executionAttributes);
+
+        // The call is not attached to an invocation started later on the thread either
+        invocation = InvocationCounters.start();
+        invocation.publishServiceCalls(metrics);
+
+        verifyNoInteractions(metrics);
+        assertThat(invocation.getApiCalls()).isZero();
+    }
+
+    @Test
+    void instrument_PublishesCallMetrics_OfInvocation() {
+        final AtomicReference<InvocationCounters> instrumentedInvocation = new AtomicReference<>();
+
+        MetricsHelper.instrument(
+            ResourceHandlerRequest.<Object>builder().build(),
+            "Test",
+            invocationMetrics -> {
+                instrumentedInvocation.set(InvocationCounters.current());
+                interceptor.beforeExecution(context(200), executionAttributes);
+                transmit(200);
+                interceptor.afterExecution(context(200), executionAttributes);
+                return ProgressEvent.<Object, Object>builder().status(OperationStatus.SUCCESS).build();
+            }
+        );
+
+        // The metrics of the call were taken off the invocation and published with its MetricsLogger
+        assertThat(InvocationCounters.current()).isNull();
+        assertThat(instrumentedInvocation.get().getApiCalls()).isEqualTo(1);
+        instrumentedInvocation.get().publishServiceCalls(metrics);
+        verifyNoInteractions(metrics);
+    }
+
+    private void transmit(final int statusCode) {
+        interceptor.beforeTransmission(context(statusCode), executionAttributes);
+        interceptor.afterTransmission(context(statusCode), executionAttributes);
+    }
+
+    private void verifyMetric(final String name, final double value, final Unit unit) {
+        verify(metrics).putMetric(PREFIX + "." + name, value, unit, StorageResolution.STANDARD);
+    }
+
+    private static InterceptorContext context(final int statusCode) {
+        return InterceptorContext
+            .builder()
+            .request(PutMetricFilterRequest.builder().build())
+            .httpRequest(
+                SdkHttpFullRequest
+                    .builder()
+                    .method(SdkHttpMethod.POST)
+                    .protocol("https")
+                    .host("logs.us-east-1.amazonaws.com")
+                    .putHeader("Content-Length", "10")
+                    .build()
+            )
+            .httpResponse(SdkHttpFullResponse.builder().statusCode(statusCode).putHeader("Content-Length", "20").build())
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PaginationDriverTest {
+
+    // Pages are named by the token they are fetched with, and map to the token of the next page
+    private final Map<String, String> nextTokens = new HashMap<>();
+    private final List<String> fetchedPages = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    public void setup() {
+        nextTokens.put(null, "page-2");
+        nextTokens.put("page-2", "page-3");
+        nextTokens.put("page-3", null);
+    }
+
+    @Test
+    void paginate_Exhausted() {
+        final PaginationDriver driver = new PaginationDriver(Duration.ofSeconds(45), clock::get);
+
+        final PaginationDriver.Outcome outcome = driver.paginate(null, this::fetchPage, nextTokens::get, page -> false);
+
+        assertThat(outcome.getStatus()).isEqualTo(PaginationDriver.Outcome.Status.EXHAUSTED);
+        assertThat(outcome.getCursor()).isNull();
+        assertThat(fetchedPages).containsExactly(null, "page-2", "page-3");
+        assertThat(driver.getPagesScanned()).isEqualTo(3);
+    }
+
+    @Test
+    void paginate_Stopped() {
+        final PaginationDriver driver = new PaginationDriver(Duration.ofSeconds(45), clock::get);
+
+        final PaginationDriver.Outcome outcome = driver.paginate(null, this::fetchPage, nextTokens::get, "page-2"::equals);
+
+        assertThat(outcome.isStopped()).isTrue();
+        assertThat(fetchedPages).containsExactly(null, "page-2");
+    }
+
+    @Test
+    void paginate_ResumesFromCursor() {
+        final PaginationDriver driver = new PaginationDriver(Duration.ofSeconds(45), clock::get);
+
+        driver.paginate("page-3", this::fetchPage, nextTokens::get, page -> false);
+
+        assertThat(fetchedPages).containsExactly("page-3");
+    }
+
+    @Test
+    void paginate_FetchesFirstPage_When_BudgetIsSpent() {
+        final PaginationDriver driver = new PaginationDriver(Duration.ZERO, clock::get);
+
+        final PaginationDriver.Outcome outcome = driver.paginate(null, this::fetchPage, nextTokens::get, page -> false);
+
+        assertThat(outcome.isSuspended()).isTrue();
+        assertThat(outcome.getCursor()).isEqualTo("page-2");
+        assertThat(fetchedPages).containsExactly((String) null);
+    }
+
+    @Test
+    void paginate_Suspends_When_BudgetDoesNotCoverSlowestPage() {
+        // Every page takes 10s, so another page needs 10s plus the safety margin
+        final PaginationDriver driver = new PaginationDriver(Duration.ofSeconds(30), clock::get);
+
+        final PaginationDriver.Outcome outcome = driver.paginate(
+            null,
+            token -> {
+                clock.addAndGet(Duration.ofSeconds(10).toMillis());
+                return fetchPage(token);
+            },
+            nextTokens::get,
+            page -> false
+        );
+
+        // 20s left after the first page, 10s after the second
+        assertThat(outcome.isSuspended()).isTrue();
+        assertThat(outcome.getCursor()).isEqualTo("page-3");
+        assertThat(fetchedPages).containsExactly(null, "page-2");
+        assertThat(driver.getRemainingTimeMillis()).isEqualTo(Duration.ofSeconds(10).toMillis());
+    }
+
+    @Test
+    void forInvocation_CountsHandlerTimeout_FromStartOfInvocation() {
+        final InvocationCounters invocation = InvocationCounters.start();
+        try {
+            clock.set(invocation.getStartTimeMillis() + Duration.ofSeconds(50).toMillis());
+
+            final PaginationDriver driver = PaginationDriver.forInvocation(Duration.ofSeconds(60), clock::get);
+
+            assertThat(driver.getRemainingTimeMillis()).isEqualTo(Duration.ofSeconds(10).toMillis());
+        } finally {
+            invocation.stop();
+        }
+    }
+
+    @Test
+    void forInvocation_CountsHandlerTimeout_FromNow_When_NoInvocation() {
+        clock.set(Duration.ofSeconds(50).toMillis());
+
+        final PaginationDriver driver = PaginationDriver.forInvocation(Duration.ofSeconds(60), clock::get);
+
+        assertThat(driver.getRemainingTimeMillis()).isEqualTo(Duration.ofSeconds(60).toMillis());
+    }
+
+    private String fetchPage(final String token) {
+        fetchedPages.add(token);
+        return token;
+    }
+}
@@ -0,0 +1,97 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.paginators.DescribeLogGroupsIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudwatchlogs.emf.logger.MetricsLogger;
+import software.amazon.cloudwatchlogs.emf.model.StorageResolution;
+import software.amazon.cloudwatchlogs.emf.model.Unit;
+
+class RateLimitedProxyClientTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+
+    @SuppressWarnings("unchecked")
+    private final ProxyClient<CloudWatchLogsClient> delegate = mock(ProxyClient.class);
+    private final MetricsLogger metrics = mock(MetricsLogger.class);
+    // A single permit per API, never refilled since the clock stands still
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, new AtomicLong()::get);
+    private final RateLimitedProxyClient<CloudWatchLogsClient> client = new RateLimitedProxyClient<>(
+        delegate,
+        rateLimiter,
+        ACCOUNT_ID,
+        REGION,
+        metrics
+    );
+
+    @Test
+    void injectCredentialsAndInvokeV2_AcquiresPermitOfApi() {
+        final DescribeMetricFiltersRequest request = DescribeMetricFiltersRequest.builder().build();
+
+        client.<DescribeMetricFiltersRequest, DescribeMetricFiltersResponse>injectCredentialsAndInvokeV2(request, r -> null);
+
+        verify(delegate).injectCredentialsAndInvokeV2(eq(request), any());
+        assertPermitTaken("DescribeMetricFilters");
+        assertWaitTimePublished();
+    }
+
+    @Test
+    void injectCredentialsAndInvokeV2Async_AcquiresPermitOfApi() {
+        final PutMetricFilterRequest request = PutMetricFilterRequest.builder().build();
+
+        client.<PutMetricFilterRequest, PutMetricFilterResponse>injectCredentialsAndInvokeV2Async(
+            request,
+            r -> CompletableFuture.completedFuture(null)
+        );
+
+        verify(delegate).injectCredentialsAndInvokeV2Async(eq(request), any());
+        assertPermitTaken("PutMetricFilter");
+        assertWaitTimePublished();
+    }
+
+    @Test
+    void injectCredentialsAndInvokeIterableV2_AcquiresPermitOfApi() {
+        final DescribeLogGroupsRequest request = DescribeLogGroupsRequest.builder().build();
+
+        client.<DescribeLogGroupsRequest, DescribeLogGroupsResponse, DescribeLogGroupsIterable>injectCredentialsAndInvokeIterableV2(
+            request,
+            r -> null
+        );
+
+        verify(delegate).injectCredentialsAndInvokeIterableV2(eq(request), any());
+        assertPermitTaken("DescribeLogGroups");
+        assertWaitTimePublished();
+    }
+
+    @Test
+    void apiFamily_StripsRequestSuffix() {
+        assertThat(RateLimitedProxyClient.apiFamily(DescribeMetricFiltersRequest.builder().build())).isEqualTo("DescribeMetricFilters");
+    }
+
+    private void assertPermitTaken(final String apiFamily) {
+        // The bucket of the API is empty, while the buckets of other APIs, accounts and regions are untouched
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, apiFamily)).isPositive();
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, "DeleteMetricFilter")).isZero();
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, "us-west-2", apiFamily)).isZero();
+    }
+
+    private void assertWaitTimePublished() {
+        verify(metrics).putMetric(RateLimitedProxyClient.WAIT_TIME_METRIC, 0, Unit.MILLISECONDS, StorageResolution.STANDARD);
+    }
+}
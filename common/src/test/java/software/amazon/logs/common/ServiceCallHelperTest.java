@@ -0,0 +1,126 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+class ServiceCallHelperTest {
+
+    private final AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+    private final List<ListTagsLogGroupRequest> requests = IntStream
+        .range(0, 3)
+        .mapToObj(i -> ListTagsLogGroupRequest.builder().logGroupName("LogGroup-" + i).build())
+        .collect(Collectors.toList());
+    private final List<CompletableFuture<ListTagsLogGroupResponse>> futures = requests
+        .stream()
+        .map(request -> new CompletableFuture<ListTagsLogGroupResponse>())
+        .collect(Collectors.toList());
+
+    @BeforeEach
+    void setup() {
+        doAnswer(ServiceCallHelperTest::callFunction).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+        doAnswer(ServiceCallHelperTest::callFunction).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
+    }
+
+    @Test
+    void invokeAll_ReturnsResponsesInRequestOrder() {
+        final List<ListTagsLogGroupResponse> responses = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(ListTagsLogGroupResponse.builder().build());
+            futures.get(i).complete(responses.get(i));
+        }
+
+        assertThat(ServiceCallHelper.invokeAll(proxy, requests, this::listTagsSync, this::listTagsAsync, 2))
+            .containsExactlyElementsOf(responses);
+    }
+
+    @Test
+    void invokeAll_CancelsCallsInFlight_When_CallFails() {
+        final ResourceNotFoundException failure = ResourceNotFoundException.builder().build();
+        futures.get(2).completeExceptionally(failure);
+
+        final Throwable thrown = catchThrowable(
+            () -> ServiceCallHelper.invokeAll(proxy, requests, this::listTagsSync, this::listTagsAsync, requests.size())
+        );
+
+        assertThat(thrown).isSameAs(failure);
+        assertThat(futures.get(0).isCancelled()).isTrue();
+        assertThat(futures.get(1).isCancelled()).isTrue();
+    }
+
+    @Test
+    void invokeAll_StopsIssuingCalls_AfterFailure() {
+        final ResourceNotFoundException failure = ResourceNotFoundException.builder().build();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<ListTagsLogGroupRequest, ListTagsLogGroupResponse> failingCall = request -> {
+            if (calls.incrementAndGet() == 2) {
+                throw failure;
+            }
+            return ListTagsLogGroupResponse.builder().build();
+        };
+
+        final Throwable thrown = catchThrowable(() -> ServiceCallHelper.invokeAll(proxy, requests, failingCall, null, 1));
+
+        assertThat(thrown).isSameAs(failure);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void joinAll_ThrowsFirstCompletedFailure_WithoutWaitingForEarlierCalls() throws Exception {
+        final ResourceNotFoundException firstFailure = ResourceNotFoundException.builder().message("first").build();
+        final ResourceNotFoundException secondFailure = ResourceNotFoundException.builder().message("second").build();
+
+        final CompletableFuture<List<ListTagsLogGroupResponse>> joined = CompletableFuture.supplyAsync(
+            () -> ServiceCallHelper.joinAll(futures)
+        );
+        while (futures.get(2).getNumberOfDependents() == 0) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        futures.get(2).completeExceptionally(firstFailure);
+        futures.get(1).completeExceptionally(secondFailure);
+
+        final Throwable thrown = catchThrowable(() -> joined.get(5, TimeUnit.SECONDS));
+
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        assertThat(thrown.getCause()).isSameAs(firstFailure);
+        assertThat(futures.get(0).isCancelled()).isTrue();
+    }
+
+    @Test
+    void joinAll_ReturnsEmptyList_When_NoFutures() {
+        assertThat(ServiceCallHelper.joinAll(Collections.<CompletableFuture<String>>emptyList())).isEmpty();
+    }
+
+    private ListTagsLogGroupResponse listTagsSync(final ListTagsLogGroupRequest request) {
+        return ServiceCallHelper.join(listTagsAsync(request));
+    }
+
+    private CompletableFuture<ListTagsLogGroupResponse> listTagsAsync(final ListTagsLogGroupRequest request) {
+        return futures.get(requests.indexOf(request));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object callFunction(final InvocationOnMock invocation) {
+        return ((Function<Object, Object>) invocation.getArgument(1)).apply(invocation.getArgument(0));
+    }
+}
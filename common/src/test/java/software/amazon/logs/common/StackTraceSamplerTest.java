@@ -0,0 +1,103 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StackTraceSamplerTest {
+
+    @Test
+    void shouldCapture_FirstOccurrence_ThenOneInSampleRate() {
+        final SampledException exception = new SampledException(null);
+
+        for (int round = 0; round < 3; round++) {
+            assertThat(StackTraceSampler.shouldCapture(exception)).isTrue();
+            for (int i = 1; i < StackTraceSampler.SAMPLE_RATE; i++) {
+                assertThat(StackTraceSampler.shouldCapture(exception)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void shouldCapture_SamplesExceptionClassesApart() {
+        assertThat(StackTraceSampler.shouldCapture(new OtherSampledException())).isTrue();
+        assertThat(StackTraceSampler.shouldCapture(new OtherSampledException())).isFalse();
+
+        assertThat(StackTraceSampler.shouldCapture(new UnseenException())).isTrue();
+    }
+
+    @Test
+    void render_BoundsFramesPerException() {
+        final SampledException exception = withFrames(new SampledException(null), StackTraceSampler.MAX_FRAMES + 10);
+
+        final String trace = StackTraceSampler.render(exception);
+
+        assertThat(trace.split("\n"))
+            .hasSize(StackTraceSampler.MAX_FRAMES + 2)
+            .startsWith(exception.toString())
+            .endsWith("\t... 10 more");
+    }
+
+    @Test
+    void render_BoundsCauses() {
+        SampledException exception = withFrames(new SampledException(null), 1);
+        for (int i = 0; i < StackTraceSampler.MAX_CAUSES + 3; i++) {
+            exception = withFrames(new SampledException(exception), 1);
+        }
+
+        final String trace = StackTraceSampler.render(exception);
+
+        assertThat(trace.split("Caused by: ", -1)).hasSize(StackTraceSampler.MAX_CAUSES + 1);
+    }
+
+    @Test
+    void render_BoundsLength() {
+        final SampledException exception = withFrames(new SampledException(null), StackTraceSampler.MAX_FRAMES);
+        SampledException withCauses = exception;
+        for (int i = 0; i < StackTraceSampler.MAX_CAUSES; i++) {
+            withCauses = withFrames(new SampledException(withCauses, repeat('x', StackTraceSampler.MAX_LENGTH / 4)), 1);
+        }
+
+        assertThat(StackTraceSampler.render(withCauses)).hasSize(StackTraceSampler.MAX_LENGTH);
+    }
+
+    private static <T extends Throwable> T withFrames(final T throwable, final int frameCount) {
+        final StackTraceElement[] frames = new StackTraceElement[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = new StackTraceElement("software.amazon.logs.Frame", "method" + i, "Frame.java", i);
+        }
+        throwable.setStackTrace(frames);
+        return throwable;
+    }
+
+    private static String repeat(final char c, final int count) {
+        final StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static final class SampledException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private SampledException(final Throwable cause) {
+            this(cause, "sampled");
+        }
+
+        private SampledException(final Throwable cause, final String message) {
+            super(message, cause);
+        }
+    }
+
+    private static final class OtherSampledException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class UnseenException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
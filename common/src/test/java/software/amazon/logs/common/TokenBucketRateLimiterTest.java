@@ -0,0 +1,71 @@
+package software.amazon.logs.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String API = "DescribeMetricFilters";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(5, 10, clock::get);
+
+    @Test
+    void reserve_ServesBurstWithoutWaiting() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isZero();
+        }
+        // The 11th permit is refilled after 1 / 5 s, the 12th after 2 / 5 s
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    void reserve_RefillsAtRate() {
+        drain();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isZero();
+        }
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isPositive();
+    }
+
+    @Test
+    void reserve_RefillsUpToBurst() {
+        drain();
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isZero();
+        }
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, API)).isPositive();
+    }
+
+    @Test
+    void reserve_KeepsBucketsApart() {
+        drain();
+
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, REGION, "PutMetricFilter")).isZero();
+        assertThat(rateLimiter.reserve(ACCOUNT_ID, "us-west-2", API)).isZero();
+        assertThat(rateLimiter.reserve("210987654321", REGION, API)).isZero();
+    }
+
+    @Test
+    void constructor_RejectsInvalidLimits() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void drain() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.reserve(ACCOUNT_ID, REGION, API);
+        }
+    }
+}